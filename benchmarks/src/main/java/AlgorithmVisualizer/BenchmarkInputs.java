@@ -0,0 +1,54 @@
+/*
+ * BenchmarkInputs.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.SplittableRandom;
+ 
+ /*
+  * BenchmarkInputs builds the arrays the benchmarks sort and paint. Every input is generated
+  * from a fixed seed so runs are comparable with each other.
+  */
+ public final class BenchmarkInputs {
+ 
+     // Largest value in an input: the visualizer's original maximum value range (it now goes up to
+     // InsertionSortVisualizer.MAX_VALUE_RANGE), kept so painted bars stay wide enough to be labelled.
+     private static final int MAX_VALUE = 99;
+ 
+     private BenchmarkInputs() {
+     }
+ 
+     /*
+      * create: Returns n values in the given distribution:
+         * random     -> uniform in 1..MAX_VALUE
+         * sorted     -> ascending
+         * reversed   -> descending
+         * few-unique -> uniform in 1..4
+      */
+     public static int[] create(String distribution, int n) {
+         SplittableRandom random = new SplittableRandom(42);
+         int[] values = new int[n];
+         for (int i = 0; i < n; i++) {
+             switch (distribution) {
+                 case "random":
+                     values[i] = random.nextInt(MAX_VALUE) + 1;
+                     break;
+                 case "sorted":
+                     values[i] = 1 + (int) ((long) i * MAX_VALUE / n);
+                     break;
+                 case "reversed":
+                     values[i] = MAX_VALUE - (int) ((long) i * MAX_VALUE / n);
+                     break;
+                 case "few-unique":
+                     values[i] = random.nextInt(4) + 1;
+                     break;
+                 default:
+                     throw new IllegalArgumentException("Unknown distribution: " + distribution);
+             }
+         }
+         return values;
+     }
+ }
@@ -0,0 +1,83 @@
+/*
+ * ElementTypeBenchmark.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.concurrent.TimeUnit;
+ import org.openjdk.jmh.annotations.*;
+ 
+ /*
+  * ElementTypeBenchmark measures what wider elements cost the insertion sort kernel, for each element type
+  * (see SortElements):
+     * raw      -> the primitive kernel for the type (InsertionSort.sort on an int[], long[], double[], or keys + payloads)
+     * recorded -> the same sort run through SortRecorder on elements of the type
+  * Every type is made from the same values and takes the same steps, so the differences are the cost of comparing
+  * and shifting wider elements (and, for records, of moving two arrays at once).
+  */
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(iterations = 3, time = 1)
+ @Measurement(iterations = 5, time = 1)
+ @Fork(1)
+ @State(Scope.Thread)
+ public class ElementTypeBenchmark {
+ 
+     @Param({ "1000", "10000" })
+     public int size;
+ 
+     @Param({ "Int", "Long", "Double", "Keyed Record" })
+     public String elementType;
+ 
+     // Unsorted input, and a scratch copy of it for each invocation in each type.
+     private int[] input, ints, payloads;
+     private long[] longs;
+     private double[] doubles;
+ 
+     private final InsertionSort insertionSort = new InsertionSort();
+ 
+     @Setup(Level.Trial)
+     public void setUp() {
+         input = BenchmarkInputs.create("random", size);
+         ints = new int[size];
+         payloads = new int[size];
+         longs = new long[size];
+         doubles = new double[size];
+     }
+ 
+     // Fills the scratch arrays the same way SortElements.of makes each type from the values.
+     @Setup(Level.Invocation)
+     public void copyInput() {
+         for (int i = 0; i < size; i++) {
+             ints[i] = input[i];
+             payloads[i] = i;
+             longs[i] = (long) input[i] << 32;
+             doubles[i] = input[i] / 1024.0;
+         }
+     }
+ 
+     @Benchmark
+     public Object raw() {
+         switch (elementType) {
+             case SortElements.LONG:
+                 InsertionSort.sort(longs);
+                 return longs;
+             case SortElements.DOUBLE:
+                 InsertionSort.sort(doubles);
+                 return doubles;
+             case SortElements.KEYED:
+                 InsertionSort.sort(ints, payloads);
+                 return payloads;
+             default:
+                 InsertionSort.sort(ints);
+                 return ints;
+         }
+     }
+ 
+     @Benchmark
+     public SortCounters recorded() {
+         return SortRecorder.record(insertionSort, SortElements.of(elementType, input), new HeapStepLog());
+     }
+ }
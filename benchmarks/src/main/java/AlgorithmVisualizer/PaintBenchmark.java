@@ -0,0 +1,79 @@
+/*
+ * PaintBenchmark.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.Graphics2D;
+ import java.awt.image.BufferedImage;
+ import java.util.concurrent.TimeUnit;
+ import org.openjdk.jmh.annotations.*;
+ 
+ /*
+  * PaintBenchmark measures the cost of one frame: paintComponent rendering into an offscreen
+  * BufferedImage (headless, so no window is needed). Small sizes use one bar per value, large
+  * sizes use the binned renderer.
+     * fullFrame  -> every bar changed and the whole panel is repainted
+     * stripFrame -> only a narrow strip changed and is repainted, like the dirty region of a single step
+     * blitFrame  -> nothing changed, so the whole panel is copied from the back buffer (plus the overlay)
+  */
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(iterations = 3, time = 1)
+ @Measurement(iterations = 5, time = 1)
+ @Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+ @State(Scope.Thread)
+ public class PaintBenchmark {
+ 
+     @Param({ "100", "200", "10000", "1000000" })
+     public int size;
+ 
+     @Param({ "random", "sorted", "reversed", "few-unique" })
+     public String distribution;
+ 
+     // Same dimensions as the default window's drawing area.
+     private static final int WIDTH = 1600, HEIGHT = 740;
+ 
+     private InsertionSortVisualizer visualizer;
+     private BufferedImage image;
+     private Graphics2D graphics, stripGraphics;
+ 
+     @Setup(Level.Trial)
+     public void setUp() {
+         visualizer = new InsertionSortVisualizer();
+         visualizer.setSize(WIDTH, HEIGHT);
+         visualizer.setArray(BenchmarkInputs.create(distribution, size));
+         image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+         graphics = image.createGraphics();
+         stripGraphics = image.createGraphics();
+         stripGraphics.setClip(WIDTH / 2, 0, 16, HEIGHT);
+     }
+ 
+     @TearDown(Level.Trial)
+     public void tearDown() {
+         graphics.dispose();
+         stripGraphics.dispose();
+     }
+ 
+     @Benchmark
+     public BufferedImage fullFrame() {
+         visualizer.markAllDirty();
+         visualizer.paintComponent(graphics);
+         return image;
+     }
+ 
+     @Benchmark
+     public BufferedImage stripFrame() {
+         visualizer.markDirty(WIDTH / 2, WIDTH / 2 + 16);
+         visualizer.paintComponent(stripGraphics);
+         return image;
+     }
+ 
+     @Benchmark
+     public BufferedImage blitFrame() {
+         visualizer.paintComponent(graphics);
+         return image;
+     }
+ }
@@ -0,0 +1,77 @@
+/*
+ * SortKernelBenchmark.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.concurrent.TimeUnit;
+ import org.openjdk.jmh.annotations.*;
+ 
+ /*
+  * SortKernelBenchmark measures the insertion sort kernel with no painting or delays:
+     * raw      -> plain insertion sort on an int[] (the baseline)
+     * binary   -> binary insertion sort on an int[] (binary search plus one block copy per insertion)
+     * recorded -> the same sort run through SortRecorder, packing every step into a StepLog
+     * replayed -> applying a recorded log with StepPlayer (what the panel does per frame)
+  * The gap between raw and recorded is the instrumentation overhead.
+  */
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(iterations = 3, time = 1)
+ @Measurement(iterations = 5, time = 1)
+ @Fork(1)
+ @State(Scope.Thread)
+ public class SortKernelBenchmark {
+ 
+     @Param({ "100", "1000", "10000" })
+     public int size;
+ 
+     @Param({ "random", "sorted", "reversed", "few-unique" })
+     public String distribution;
+ 
+     // Unsorted input, a scratch copy for each invocation, and the recorded log of sorting the input.
+     private int[] input, work;
+     private StepLog log;
+ 
+     private final InsertionSort insertionSort = new InsertionSort();
+ 
+     @Setup(Level.Trial)
+     public void setUp() {
+         input = BenchmarkInputs.create(distribution, size);
+         work = new int[size];
+         log = SortRecorder.record(insertionSort, input);
+     }
+ 
+     @Setup(Level.Invocation)
+     public void copyInput() {
+         System.arraycopy(input, 0, work, 0, size);
+     }
+ 
+     @Benchmark
+     public int[] raw() {
+         InsertionSort.sort(work);
+         return work;
+     }
+ 
+     @Benchmark
+     public int[] binary() {
+         BinaryInsertionSort.sort(work);
+         return work;
+     }
+ 
+     @Benchmark
+     public StepLog recorded() {
+         return SortRecorder.record(insertionSort, input);
+     }
+ 
+     @Benchmark
+     public StepPlayer replayed() {
+         StepPlayer player = new StepPlayer(work);
+         for (long s = 0; s < log.size(); s++) {
+             player.apply(log.get(s));
+         }
+         return player;
+     }
+ }
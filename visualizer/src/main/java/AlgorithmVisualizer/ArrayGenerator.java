@@ -0,0 +1,148 @@
+/*
+ * ArrayGenerator.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.SplittableRandom;
+ import java.util.stream.IntStream;
+ 
+ /*
+  * ArrayGenerator fills arrays with values from 1 to valueRange in a chosen distribution, from an explicit seed,
+  * so the same seed always gives the same array (to compare runs or algorithms on identical inputs).
+  * Large arrays are filled in parallel: the array is cut into fixed chunks and each chunk gets its own
+  * SplittableRandom, split from the seeded one in chunk order. The values therefore only depend on the
+  * seed, never on how many threads happened to fill them.
+  */
+ public final class ArrayGenerator {
+ 
+     /*
+      * Available distributions:
+         * UNIFORM       -> every value equally likely
+         * NEARLY_SORTED -> ascending, with a few random pairs swapped (1% of the length by default)
+         * REVERSED      -> descending
+         * FEW_UNIQUE    -> only FEW_UNIQUE_VALUES different values, spread over the range
+         * GAUSSIAN      -> bell curve around the middle of the range (values beyond 3 deviations are clamped)
+         * SAWTOOTH      -> SAWTOOTH_TEETH ascending runs one after the other
+      */
+     public static final String UNIFORM = "Uniform", NEARLY_SORTED = "Nearly Sorted", REVERSED = "Reversed",
+             FEW_UNIQUE = "Few Unique", GAUSSIAN = "Gaussian", SAWTOOTH = "Sawtooth";
+     private static final String[] NAMES = { UNIFORM, NEARLY_SORTED, REVERSED, FEW_UNIQUE, GAUSSIAN, SAWTOOTH };
+ 
+     // Ascending ramp that the nearly sorted distribution starts from.
+     private static final String ASCENDING = "Ascending";
+ 
+     private static final int FEW_UNIQUE_VALUES = 4, SAWTOOTH_TEETH = 4;
+ 
+     // Values per chunk, and the smallest array that is worth filling in parallel.
+     private static final int CHUNK_SIZE = 1 << 16, PARALLEL_THRESHOLD = 1 << 18;
+ 
+     private ArrayGenerator() {
+     }
+ 
+     // Names of every distribution (for selectors).
+     public static String[] names() {
+         return NAMES.clone();
+     }
+ 
+     // A new random seed, for when no seed was given (reported back so the array can be generated again).
+     public static long randomSeed() {
+         return new SplittableRandom().nextLong();
+     }
+ 
+     /*
+      * generate: Returns n values from 1 to valueRange in the named distribution (see forName),
+      * generated from the given seed.
+      */
+     public static int[] generate(String distribution, int n, int valueRange, long seed) {
+         int[] values = new int[n];
+         fill(values, distribution, valueRange, seed);
+         return values;
+     }
+ 
+     /*
+      * fill: Same as generate, but fills an existing array.
+      */
+     public static void fill(int[] values, String distribution, int valueRange, long seed) {
+         if (valueRange < 1) throw new IllegalArgumentException("Value range must be at least 1: " + valueRange);
+         String name = forName(distribution);
+         if (name.equals(NEARLY_SORTED)) {
+             nearlySorted(values, valueRange, Math.max(1, values.length / 100), seed);
+             return;
+         }
+         fillChunks(values, name, valueRange, new SplittableRandom(seed));
+     }
+ 
+     /*
+      * nearlySorted: Fills the array in ascending order, then swaps the given number of random pairs.
+      */
+     public static void nearlySorted(int[] values, int valueRange, int swaps, long seed) {
+         SplittableRandom random = new SplittableRandom(seed);
+         fillChunks(values, ASCENDING, valueRange, random.split());
+         for (int s = 0; s < swaps && values.length > 1; s++) {
+             int i = random.nextInt(values.length), j = random.nextInt(values.length);
+             int temp = values[i];
+             values[i] = values[j];
+             values[j] = temp;
+         }
+     }
+ 
+     // Fills every chunk of the array from its own generator (split in chunk order), in parallel for large arrays.
+     private static void fillChunks(int[] values, String distribution, int valueRange, SplittableRandom random) {
+         int chunks = (values.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+         SplittableRandom[] randoms = new SplittableRandom[chunks];
+         for (int c = 0; c < chunks; c++) {
+             randoms[c] = random.split();
+         }
+         IntStream indices = IntStream.range(0, chunks);
+         if (values.length >= PARALLEL_THRESHOLD) indices = indices.parallel();
+         indices.forEach(c -> fillChunk(values, c * CHUNK_SIZE, Math.min(values.length, (c + 1) * CHUNK_SIZE), distribution, valueRange, randoms[c]));
+     }
+ 
+     // Fills values[from..to) with the distribution.
+     private static void fillChunk(int[] values, int from, int to, String distribution, int valueRange, SplittableRandom random) {
+         long n = values.length;
+         switch (distribution) {
+             case UNIFORM:
+                 for (int i = from; i < to; i++) values[i] = random.nextInt(valueRange) + 1;
+                 break;
+             case ASCENDING:
+                 for (int i = from; i < to; i++) values[i] = 1 + (int) ((long) i * valueRange / n);
+                 break;
+             case REVERSED:
+                 for (int i = from; i < to; i++) values[i] = valueRange - (int) ((long) i * valueRange / n);
+                 break;
+             case FEW_UNIQUE:
+                 for (int i = from; i < to; i++) values[i] = Math.max(1, (random.nextInt(FEW_UNIQUE_VALUES) + 1) * valueRange / FEW_UNIQUE_VALUES);
+                 break;
+             case GAUSSIAN:
+                 double mean = (valueRange + 1) / 2.0, deviation = valueRange / 6.0;
+                 for (int i = from; i < to; i++) {
+                     long value = Math.round(mean + random.nextGaussian() * deviation);
+                     values[i] = (int) Math.max(1, Math.min(valueRange, value));
+                 }
+                 break;
+             case SAWTOOTH:
+                 long tooth = Math.max(1, (n + SAWTOOTH_TEETH - 1) / SAWTOOTH_TEETH);
+                 for (int i = from; i < to; i++) values[i] = 1 + (int) (i % tooth * valueRange / tooth);
+                 break;
+             default:
+                 throw new IllegalArgumentException("Unknown distribution: " + distribution);
+         }
+     }
+ 
+     /*
+      * forName: Finds a distribution by name, ignoring case, spaces and dashes (so "nearly-sorted" matches "Nearly Sorted").
+      */
+     public static String forName(String name) {
+         String wanted = name.replace(" ", "").replace("-", "");
+         for (String distribution : NAMES) {
+             if (distribution.replace(" ", "").equalsIgnoreCase(wanted)) {
+                 return distribution;
+             }
+         }
+         throw new IllegalArgumentException("Unknown distribution: " + name);
+     }
+ }
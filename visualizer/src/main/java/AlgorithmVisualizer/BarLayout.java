@@ -0,0 +1,145 @@
+/*
+ * BarLayout.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * BarLayout is the geometry of the bars for one panel size and number of values. It is worked out once
+  * whenever either changes, instead of on every frame. The horizontal paddings keep their proportion to
+  * REFERENCE_WIDTH, so the picture scales with the window. The space per bar is fractional, so the bars fill
+  * the width exactly instead of leaving the remainder of a whole-pixel division unused; bars that don't start
+  * and end on whole pixels are drawn anti-aliased. Once there is less than MIN_BAR_SPACE per bar, the layout is
+  * binned: one column per pixel, several values per column (see BinnedBarRenderer).
+  */
+ public class BarLayout {
+ 
+     /*
+      * Padding for GUI elements and visual representation (in pixels at REFERENCE_WIDTH, scaled with the panel width):
+          * COMPARISON_PADDING -> space between current comparison element(s) and the rest of the sorted array (current comparison isolated)
+          * WALL_PADDING       -> space between the walls of the window and the closest element (leftmost bar, rightmost bar, and top of bars);
+          *                       the top padding holds the overlay, so it is never scaled
+          * SORTED_PADDING     -> space between all sorted/sorting elements and the rest of the unsorted elements
+      * Space (height) allocated for the control panel at the bottom.
+      */
+     static final int REFERENCE_WIDTH = 1600;
+     static final int COMPARISON_PADDING = 300, WALL_PADDING = 100, SORTED_PADDING = 100;
+     static final int CONTROL_PANEL_HEIGHT = 20;
+ 
+     // Smallest space (in pixels) per bar before switching to binned rendering.
+     private static final double MIN_BAR_SPACE = 2;
+ 
+     /*
+      * Geometry for the size and length the layout was computed for:
+          * wallPadding, comparisonPadding, sortedPadding -> paddings scaled to the width (whole pixels)
+          * barSpace -> space for each bar, including the gap to the next one
+          * barWidth -> width of each bar (3/4 of its space, leaving 1/4 of the space for padding between bars)
+          * binned   -> whether there are too many values for a bar each
+          * whole    -> whether every bar starts and ends on a whole pixel
+      */
+     private final int width, height, length;
+     private final int wallPadding, comparisonPadding, sortedPadding;
+     private final double barSpace, barWidth;
+     private final boolean binned, whole;
+ 
+     /*
+      * Constructor: Lays out length values in a panel of the given size.
+      */
+     public BarLayout(int width, int height, int length) {
+         this.width = width;
+         this.height = height;
+         this.length = length;
+         double scale = (double) width / REFERENCE_WIDTH;
+         this.wallPadding = (int) Math.round(WALL_PADDING * scale);
+         this.comparisonPadding = (int) Math.round(COMPARISON_PADDING * scale);
+         this.sortedPadding = (int) Math.round(SORTED_PADDING * scale);
+         this.barSpace = (double) (width - 2 * wallPadding - sortedPadding - comparisonPadding) / Math.max(1, length);
+         this.barWidth = barSpace - Math.floor(barSpace / 4);
+         this.binned = barSpace < MIN_BAR_SPACE;
+         this.whole = barSpace == Math.rint(barSpace);
+     }
+ 
+     // Whether the layout was computed for this size and length.
+     public boolean matches(int width, int height, int length) {
+         return this.width == width && this.height == height && this.length == length;
+     }
+ 
+     // Whether there are too many values for a bar each (draw one column per pixel instead).
+     public boolean isBinned() {
+         return binned;
+     }
+ 
+     // Whether every bar starts and ends on a whole pixel (otherwise the bars are drawn anti-aliased).
+     public boolean isWhole() {
+         return whole;
+     }
+ 
+     public double getBarSpace() {
+         return barSpace;
+     }
+ 
+     public double getBarWidth() {
+         return barWidth;
+     }
+ 
+     public int getComparisonPadding() {
+         return comparisonPadding;
+     }
+ 
+     public int getSortedPadding() {
+         return sortedPadding;
+     }
+ 
+     // Left edge of the bar at the given index, before it is moved right for its state.
+     public double barLeft(int index) {
+         return wallPadding + index * barSpace;
+     }
+ 
+     // Bottom of the bars, and height of the tallest bar.
+     public int getBaseline() {
+         return height - CONTROL_PANEL_HEIGHT;
+     }
+ 
+     public int getAvailableHeight() {
+         return Math.max(1, height - WALL_PADDING - CONTROL_PANEL_HEIGHT);
+     }
+ 
+     // Left edge and width of the columns in binned mode.
+     public int getBinnedLeft() {
+         return wallPadding;
+     }
+ 
+     public int getBinnedWidth() {
+         return Math.max(1, width - 2 * wallPadding);
+     }
+ 
+     /*
+      * columns: Returns the x-range of the panel (packed left << 32 | right, exclusive) that the bars (or columns)
+      * of the indices from low to high can be drawn in.
+      */
+     public long columns(int low, int high) {
+         int left, right;
+         if (binned) {
+             int bins = Math.max(1, Math.min(getBinnedWidth(), length));
+             left = wallPadding + (int) ((long) low * bins / length);
+             right = wallPadding + (int) ((long) high * bins / length) + 1;
+         } else {
+             // A bar can be pushed right by up to comparisonPadding + sortedPadding, and its label can overhang by a bar.
+             left = (int) Math.floor(barLeft(low) - barSpace);
+             right = (int) Math.ceil(barLeft(high + 1) + comparisonPadding + sortedPadding + barSpace);
+         }
+         return ((long) left << 32) | (right & 0xFFFFFFFFL);
+     }
+ 
+     // First index whose bar can reach into the panel right of x = left (bars only ever move right).
+     public int firstIndex(int left) {
+         return (int) Math.max(0, Math.floor((left - wallPadding - comparisonPadding - sortedPadding - barSpace) / barSpace));
+     }
+ 
+     // Last index whose bar can reach into the panel left of x = right.
+     public int lastIndex(int right) {
+         return (int) Math.min(length - 1, Math.floor((right - wallPadding + barSpace) / barSpace));
+     }
+ }
@@ -0,0 +1,470 @@
+/*
+ * BatchExporter.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.Graphics2D;
+ import java.awt.image.BufferedImage;
+ import java.awt.image.DataBufferByte;
+ import java.awt.image.DataBufferInt;
+ import java.awt.image.IndexColorModel;
+ import java.awt.image.Raster;
+ import java.awt.image.WritableRaster;
+ import java.io.File;
+ import java.io.IOException;
+ import java.io.InterruptedIOException;
+ import java.util.Arrays;
+ import java.util.concurrent.ArrayBlockingQueue;
+ import java.util.concurrent.BlockingQueue;
+ import java.util.concurrent.ExecutionException;
+ import javax.imageio.IIOImage;
+ import javax.imageio.ImageIO;
+ import javax.imageio.ImageTypeSpecifier;
+ import javax.imageio.ImageWriteParam;
+ import javax.imageio.ImageWriter;
+ import javax.imageio.metadata.IIOMetadata;
+ import javax.imageio.metadata.IIOMetadataNode;
+ import javax.imageio.stream.ImageOutputStream;
+ 
+ /*
+  * BatchExporter runs a sort without a display and writes its animation to a PNG sequence or an animated GIF,
+  * e.g. to generate clips on a build server. Frames are rendered by the panel's own paintComponent.
+  * Three threads work as a pipeline, so encoding overlaps with sorting and rendering (the recorder and the
+  * encoder are background tasks, each in its own TaskScope, so a failed recording doesn't cancel the encoding
+  * of the frames before it):
+     * recorder -> records the sort into a step log at full speed
+     * caller   -> replays the log, rendering one frame every stepsPerFrame steps
+     * encoder  -> encodes the rendered frames and writes them out
+  * Frames are passed through bounded queues of reused images, so at most queueSize frames are held in
+  * memory no matter how long the sort runs (rendering simply waits while the encoder is behind).
+  *
+  * Usage: java -jar algorithm-visualizer.jar --out PATH [options], where the options are:
+     * --size N            -> number of values (default 100)
+     * --range N           -> values are picked from 1..N (default 50)
+     * --seed N            -> seed for the random values (default: a random seed)
+     * --distribution NAME -> distribution of the values, e.g. "Nearly Sorted" or gaussian (default Uniform)
+     * --algorithm NAME    -> sorting algorithm, e.g. "Quick Sort" or quicksort (default Insertion Sort)
+     * --elements NAME     -> type of elements the values are sorted as: int, long, double or keyed-record (default Int)
+     * --format png|gif    -> PNG sequence in the directory PATH, or one animated GIF at PATH (default: from PATH)
+     * --steps-per-frame N -> steps replayed between frames (default 100)
+     * --fps N             -> playback rate written to the GIF (default 30)
+     * --queue N           -> frames that can wait for the encoder (default 8)
+  */
+ public class BatchExporter {
+ 
+     // Size of every frame (the panel's drawing area in the default window).
+     private static final int WIDTH = 1600, HEIGHT = 740;
+ 
+     // How long the replay waits for the recorder before checking again (in milliseconds).
+     private static final long RECORD_WAIT_MILLIS = 10;
+ 
+     // Handed to the encoder after the last frame.
+     private static final BufferedImage END = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+ 
+     private int size = 100, range = 50;
+     private long seed = ArrayGenerator.randomSeed();
+     private String distribution = ArrayGenerator.UNIFORM;
+     private SortAlgorithm algorithm = SortAlgorithms.forName("Insertion Sort");
+     private String elementType = SortElements.INT;
+     private File out;
+     private boolean gif;
+     private int stepsPerFrame = 100, framesPerSecond = 30, queueSize = 8;
+ 
+     /*
+      * Pipeline between the renderer and the encoder:
+         * free     -> images the renderer can draw the next frame into
+         * rendered -> frames waiting to be encoded, in order, followed by END
+         * failure  -> the error that stopped the encoder, if any
+      */
+     private BlockingQueue<BufferedImage> free, rendered;
+     private volatile Exception failure;
+ 
+     /*
+      * main: Parses the arguments and runs the export, exiting with a non-zero status if it fails.
+      */
+     public static void main(String[] args) {
+         // Offscreen rendering needs no display, so don't require one (unless headless mode was set explicitly).
+         if (System.getProperty("java.awt.headless") == null) System.setProperty("java.awt.headless", "true");
+ 
+         BatchExporter exporter;
+         try {
+             exporter = parse(args);
+         } catch (IllegalArgumentException e) {
+             System.err.println(e.getMessage());
+             System.err.println("Usage: --out PATH [--size N] [--range N] [--seed N] [--distribution NAME] [--algorithm NAME] [--elements NAME] [--format png|gif]"
+                     + " [--steps-per-frame N] [--fps N] [--queue N]");
+             System.exit(2);
+             return;
+         }
+         try {
+             long frames = exporter.export();
+             System.out.println("Wrote " + frames + " frames of " + exporter.algorithm.getName() + " (" + exporter.distribution + ", seed " + exporter.seed + ") to " + exporter.out);
+         } catch (IOException | InterruptedException e) {
+             System.err.println("Export failed: " + e.getMessage());
+             System.exit(1);
+         }
+     }
+ 
+     /*
+      * parse: Reads the options from the command line, throwing IllegalArgumentException for anything invalid.
+      */
+     static BatchExporter parse(String[] args) {
+         BatchExporter exporter = new BatchExporter();
+         String format = null;
+         for (int i = 0; i < args.length; i++) {
+             String option = args[i];
+             if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+             String value = args[++i];
+             switch (option) {
+                 case "--size":            exporter.size = positive(option, value, InsertionSortVisualizer.MAX_NUM_VALUES); break;
+                 case "--range":           exporter.range = positive(option, value, InsertionSortVisualizer.MAX_VALUE_RANGE); break;
+                 case "--seed":            exporter.seed = Long.parseLong(value); break;
+                 case "--distribution":    exporter.distribution = ArrayGenerator.forName(value); break;
+                 case "--algorithm":       exporter.algorithm = SortAlgorithms.forName(value); break;
+                 case "--elements":        exporter.elementType = SortElements.forName(value); break;
+                 case "--out":             exporter.out = new File(value); break;
+                 case "--format":          format = value.toLowerCase(); break;
+                 case "--steps-per-frame": exporter.stepsPerFrame = positive(option, value, Integer.MAX_VALUE); break;
+                 case "--fps":             exporter.framesPerSecond = positive(option, value, 100); break;
+                 case "--queue":           exporter.queueSize = positive(option, value, 1024); break;
+                 default: throw new IllegalArgumentException("Unknown option: " + option);
+             }
+         }
+         if (exporter.out == null) throw new IllegalArgumentException("No output given (--out)");
+         if (format == null) format = exporter.out.getName().toLowerCase().endsWith(".gif") ? "gif" : "png";
+         if (!format.equals("gif") && !format.equals("png")) throw new IllegalArgumentException("Unknown format: " + format);
+         exporter.gif = format.equals("gif");
+         StepLog.checkSteps(exporter.algorithm, exporter.size);
+         return exporter;
+     }
+ 
+     // Parses a whole number from 1 to max (NumberFormatException is an IllegalArgumentException).
+     private static int positive(String option, String value, int max) {
+         int number = Integer.parseInt(value);
+         if (number < 1 || number > max) throw new IllegalArgumentException(option + " must be between 1 and " + max);
+         return number;
+     }
+ 
+     // Sorts with an algorithm that isn't listed in SortAlgorithms (e.g. one written for a test).
+     void setAlgorithm(SortAlgorithm algorithm) {
+         this.algorithm = algorithm;
+     }
+ 
+     /*
+      * export: Sorts the generated values and writes the animation, returning the number of frames written.
+      */
+     public long export() throws IOException, InterruptedException {
+         int[] values = ArrayGenerator.generate(distribution, size, range, seed);
+ 
+         InsertionSortVisualizer visualizer = new InsertionSortVisualizer();
+         visualizer.setSize(WIDTH, HEIGHT);
+         visualizer.setArray(values);
+         visualizer.setAlgorithm(algorithm);
+         visualizer.setElementType(elementType);
+ 
+         // Record the sort in the background, so the replay below can start on the first steps.
+         StepLog log = StepLog.forSort(algorithm, values.length);
+         TaskScope recording = new TaskScope(), encoding = new TaskScope();
+         recording.fork(() -> SortRecorder.record(algorithm, SortElements.of(elementType, values), log));
+ 
+         free = new ArrayBlockingQueue<>(queueSize);
+         rendered = new ArrayBlockingQueue<>(queueSize + 1); // Room for END when every image is waiting
+         for (int i = 0; i < queueSize; i++) {
+             free.add(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB));
+         }
+         encoding.fork(this::encode);
+ 
+         long frames = 1; // The unsorted array
+         try {
+             StepPlayer player = new StepPlayer(values.clone());
+             long position = 0, changed = FrameExchange.NO_RANGE;
+             boolean writing = render(visualizer);
+             while (writing) {
+                 if (!log.awaitStep(position, RECORD_WAIT_MILLIS)) {
+                     if (log.isFinished()) break;
+                     continue;
+                 }
+                 for (long end = log.size(); writing && position < end; ) {
+                     player.apply(log.get(position++));
+                     changed = FrameExchange.widen(changed, player.lastChangedRange());
+                     if (position % stepsPerFrame != 0) continue;
+                     visualizer.showFrame(player, position, changed, log);
+                     changed = FrameExchange.NO_RANGE;
+                     writing = render(visualizer);
+                     frames++;
+                 }
+             }
+ 
+             // Always end on the sorted array, even if the last steps didn't fill a whole frame.
+             if (writing && position % stepsPerFrame != 0) {
+                 visualizer.showFrame(player, position, changed, log);
+                 render(visualizer);
+                 frames++;
+             }
+         } finally {
+             recording.cancel();
+             rendered.put(END);
+             join(encoding);
+             join(recording);
+             log.close();
+         }
+         if (failure != null) throw new IOException(failure.getMessage(), failure);
+         if (log.getFailure() != null) throw new IOException("The sort was stopped after " + log.size() + " steps. " + log.getFailure().getMessage(), log.getFailure());
+         return frames;
+     }
+ 
+     // Waits for the tasks of a scope to return (an error in one is reported as it happens, not thrown again).
+     private static void join(TaskScope tasks) throws InterruptedException {
+         try {
+             tasks.join();
+         } catch (ExecutionException e) {
+             // Already reported by the scope.
+         }
+     }
+ 
+     // Paints the current frame into a free image and queues it for the encoder. Returns false if the encoder failed.
+     private boolean render(InsertionSortVisualizer visualizer) throws InterruptedException {
+         BufferedImage image = free.take();
+         if (failure != null) return false;
+         Graphics2D g = image.createGraphics();
+         visualizer.paintComponent(g);
+         g.dispose();
+         rendered.put(image);
+         return true;
+     }
+ 
+     /*
+      * encode: Writes every rendered frame until END, handing each image back to the renderer once it is written.
+      * If writing a frame fails, the error is kept for export and the remaining frames are only drained (handed back
+      * unwritten), so the renderer sees the error as soon as it takes its next image and stops. If the encoder stops
+      * early any other way, the error is kept and END is handed back instead, so the renderer never waits for an
+      * image that will not come.
+      */
+     private void encode() {
+         try (FrameWriter writer = gif ? new GifWriter(out, framesPerSecond) : new PngWriter(out)) {
+             for (BufferedImage image = rendered.take(); image != END; image = rendered.take()) {
+                 if (failure == null) {
+                     try {
+                         writer.write(image);
+                     } catch (IOException e) {
+                         failure = e;
+                     }
+                 }
+                 free.put(image);
+             }
+         } catch (IOException e) {
+             // The output could not be opened or closed.
+             if (failure == null) failure = e;
+         } catch (InterruptedException e) {
+             if (failure == null) failure = new InterruptedIOException("Encoding was interrupted");
+             Thread.currentThread().interrupt();
+         } catch (RuntimeException e) {
+             if (failure == null) failure = e;
+             throw e;
+         } finally {
+             free.offer(END); // Wake the renderer if it is waiting for an image (ignored once every image is back).
+         }
+     }
+ 
+     // Destination of the encoded frames.
+     private interface FrameWriter extends AutoCloseable {
+         void write(BufferedImage frame) throws IOException;
+ 
+         @Override
+         void close() throws IOException;
+     }
+ 
+     /*
+      * PngWriter: Writes every frame to its own numbered PNG file (frame-00000.png, ...) in the output directory.
+      */
+     private static class PngWriter implements FrameWriter {
+         private final File directory;
+         private int index;
+ 
+         PngWriter(File directory) throws IOException {
+             if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Could not create " + directory);
+             this.directory = directory;
+         }
+ 
+         @Override
+         public void write(BufferedImage frame) throws IOException {
+             ImageIO.write(frame, "png", new File(directory, String.format("frame-%05d.png", index++)));
+         }
+ 
+         @Override
+         public void close() {
+         }
+     }
+ 
+     /*
+      * GifWriter: Writes every frame to one animated GIF that loops forever, showing each frame for 1 / fps seconds.
+      * GIF frames hold at most 256 colors. The panel draws with far fewer than that (plus a few shades of
+      * antialiased text), so every frame gets its own palette of its exact colors instead of the writer's
+      * general-purpose quantizer, which is both much slower and dithers the flat background.
+      */
+     private static class GifWriter implements FrameWriter {
+         private static final int MAX_COLORS = 256;
+ 
+         // Colors already given an index in the current frame, in an open-addressing table (keys are rgb, or -1 if empty).
+         private static final int TABLE_SIZE = 4096;
+         private final int[] tableColors = new int[TABLE_SIZE];
+         private final byte[] tableIndices = new byte[TABLE_SIZE];
+         private int tableCount;
+ 
+         // Palette of the current frame, and its pixels as palette indices (reused for every frame).
+         private final int[] palette = new int[MAX_COLORS];
+         private int paletteSize;
+         private final byte[] indices = new byte[WIDTH * HEIGHT];
+         private final WritableRaster indexRaster = Raster.createInterleavedRaster(new DataBufferByte(indices, indices.length),
+                 WIDTH, HEIGHT, WIDTH, 1, new int[] { 0 }, null);
+ 
+         private final ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+         private final ImageOutputStream output;
+         private final int delay;
+         private boolean first = true;
+ 
+         GifWriter(File file, int framesPerSecond) throws IOException {
+             // GIF delays are in hundredths of a second.
+             this.delay = Math.max(1, Math.round(100f / framesPerSecond));
+             File directory = file.getAbsoluteFile().getParentFile();
+             if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Could not create " + directory);
+             file.delete();
+             this.output = ImageIO.createImageOutputStream(file);
+             if (output == null) throw new IOException("Could not write " + file);
+             writer.setOutput(output);
+             writer.prepareWriteSequence(null);
+         }
+ 
+         @Override
+         public void write(BufferedImage frame) throws IOException {
+             BufferedImage indexed = toIndexed(frame);
+             writer.writeToSequence(new IIOImage(indexed, null, frameMetadata(indexed)), null);
+             first = false;
+         }
+ 
+         // Converts an RGB frame to palette indices, giving each new color the next index (or the closest one once the palette is full).
+         private BufferedImage toIndexed(BufferedImage frame) {
+             int[] pixels = ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+             Arrays.fill(tableColors, -1);
+             tableCount = 0;
+             paletteSize = 0;
+             int last = -1;
+             byte lastIndex = 0;
+             for (int i = 0; i < pixels.length; i++) {
+                 int rgb = pixels[i] & 0xFFFFFF;
+                 if (rgb != last) {
+                     last = rgb;
+                     lastIndex = indexOf(rgb);
+                 }
+                 indices[i] = lastIndex;
+             }
+ 
+             // GIF color tables hold a power of two colors (at least 2); the unused entries stay black.
+             while (paletteSize < 2 || Integer.bitCount(paletteSize) != 1) {
+                 palette[paletteSize++] = 0;
+             }
+             byte[] reds = new byte[paletteSize], greens = new byte[paletteSize], blues = new byte[paletteSize];
+             for (int i = 0; i < paletteSize; i++) {
+                 reds[i] = (byte) (palette[i] >> 16);
+                 greens[i] = (byte) (palette[i] >> 8);
+                 blues[i] = (byte) palette[i];
+             }
+             IndexColorModel model = new IndexColorModel(8, paletteSize, reds, greens, blues);
+             return new BufferedImage(model, indexRaster, false, null);
+         }
+ 
+         // Palette index of the color, adding it to the palette (and the table) the first time it is seen.
+         private byte indexOf(int rgb) {
+             int slot = (rgb * 0x9E3779B1) >>> 20; // Top 12 bits of the hash (TABLE_SIZE = 2^12)
+             while (tableColors[slot] != -1) {
+                 if (tableColors[slot] == rgb) return tableIndices[slot];
+                 slot = (slot + 1) & (TABLE_SIZE - 1);
+             }
+             byte index;
+             if (paletteSize < MAX_COLORS) {
+                 palette[paletteSize] = rgb;
+                 index = (byte) paletteSize++;
+             } else {
+                 index = closest(rgb);
+             }
+             if (tableCount < TABLE_SIZE / 2) {
+                 tableColors[slot] = rgb;
+                 tableIndices[slot] = index;
+                 tableCount++;
+             }
+             return index;
+         }
+ 
+         // Index of the palette color nearest to rgb.
+         private byte closest(int rgb) {
+             int best = 0, bestDistance = Integer.MAX_VALUE;
+             for (int i = 0; i < paletteSize; i++) {
+                 int dr = (palette[i] >> 16 & 0xFF) - (rgb >> 16 & 0xFF);
+                 int dg = (palette[i] >> 8 & 0xFF) - (rgb >> 8 & 0xFF);
+                 int db = (palette[i] & 0xFF) - (rgb & 0xFF);
+                 int distance = dr * dr + dg * dg + db * db;
+                 if (distance < bestDistance) {
+                     best = i;
+                     bestDistance = distance;
+                 }
+             }
+             return (byte) best;
+         }
+ 
+         // Metadata of one frame (with its own palette): its delay, and on the first frame, endless looping.
+         private IIOMetadata frameMetadata(BufferedImage frame) throws IOException {
+             ImageWriteParam param = writer.getDefaultWriteParam();
+             IIOMetadata frameMetadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(frame), param);
+             String format = frameMetadata.getNativeMetadataFormatName();
+             IIOMetadataNode root = (IIOMetadataNode) frameMetadata.getAsTree(format);
+ 
+             // The frame's own palette, as its local color table.
+             IIOMetadataNode colors = new IIOMetadataNode("LocalColorTable");
+             colors.setAttribute("sizeOfLocalColorTable", String.valueOf(paletteSize));
+             colors.setAttribute("sortFlag", "FALSE");
+             for (int i = 0; i < paletteSize; i++) {
+                 IIOMetadataNode entry = new IIOMetadataNode("ColorTableEntry");
+                 entry.setAttribute("index", String.valueOf(i));
+                 entry.setAttribute("red", String.valueOf(palette[i] >> 16 & 0xFF));
+                 entry.setAttribute("green", String.valueOf(palette[i] >> 8 & 0xFF));
+                 entry.setAttribute("blue", String.valueOf(palette[i] & 0xFF));
+                 colors.appendChild(entry);
+             }
+             root.appendChild(colors);
+ 
+             IIOMetadataNode control = new IIOMetadataNode("GraphicControlExtension");
+             control.setAttribute("disposalMethod", "none");
+             control.setAttribute("userInputFlag", "FALSE");
+             control.setAttribute("transparentColorFlag", "FALSE");
+             control.setAttribute("delayTime", String.valueOf(delay));
+             control.setAttribute("transparentColorIndex", "0");
+             root.appendChild(control);
+ 
+             if (first) {
+                 IIOMetadataNode extensions = new IIOMetadataNode("ApplicationExtensions");
+                 IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+                 loop.setAttribute("applicationID", "NETSCAPE");
+                 loop.setAttribute("authenticationCode", "2.0");
+                 loop.setUserObject(new byte[] { 1, 0, 0 }); // Sub-block 1: loop count 0 (forever)
+                 extensions.appendChild(loop);
+                 root.appendChild(extensions);
+             }
+ 
+             frameMetadata.setFromTree(format, root);
+             return frameMetadata;
+         }
+ 
+         @Override
+         public void close() throws IOException {
+             try {
+                 writer.endWriteSequence();
+             } finally {
+                 writer.dispose();
+                 output.close();
+             }
+         }
+     }
+ }
@@ -0,0 +1,65 @@
+/*
+ * BinaryInsertionSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * BinaryInsertionSort is insertion sort that finds each key's position in the sorted
+  * portion with a binary search, so it only makes O(n log n) comparisons. The elements
+  * greater than the key are then moved up one place as a single block (one array copy and
+  * one MOVE step) instead of one swap per element; the number of elements moved is the same
+  * as plain insertion sort, but each insertion costs one step and one bulk copy.
+  */
+ public class BinaryInsertionSort implements SortAlgorithm {
+ 
+     @Override
+     public String getName() {
+         return "Binary Insertion Sort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         for (int i = 1; i < recorder.length(); i++) {
+             recorder.boundary(i);
+ 
+             // Find the first element in the sorted portion greater than the key (keeps equal values in order).
+             int low = 0, high = i;
+             while (low < high) {
+                 int mid = (low + high) >>> 1;
+                 if (recorder.probe(mid, i) > 0) {
+                     high = mid;
+                 } else {
+                     low = mid + 1;
+                 }
+             }
+ 
+             // Move the key down into place, moving the block low..i - 1 up one place.
+             if (low < i) recorder.move(low, i);
+         }
+     }
+ 
+     /*
+      * sort: Sorts the array directly, without recording any steps (the same kernel, for benchmarks).
+      */
+     public static void sort(int[] array) {
+         for (int i = 1; i < array.length; i++) {
+             int key = array[i];
+             int low = 0, high = i;
+             while (low < high) {
+                 int mid = (low + high) >>> 1;
+                 if (array[mid] > key) {
+                     high = mid;
+                 } else {
+                     low = mid + 1;
+                 }
+             }
+             if (low < i) {
+                 System.arraycopy(array, low, array, low + 1, i - low);
+                 array[low] = key;
+             }
+         }
+     }
+ }
@@ -0,0 +1,172 @@
+/*
+ * BinnedBarRenderer.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.*;
+ 
+ /*
+  * BinnedBarRenderer draws arrays that are too large for one bar per element.
+  * Elements are grouped into one-pixel columns and each column keeps the min and max
+  * value of its elements, so a frame costs O(width) instead of O(number of values).
+  * Column aggregates are only recomputed for the range of indices that changed since the last frame.
+  */
+ public class BinnedBarRenderer {
+ 
+     // Array the columns were computed from, its length, and the number of columns.
+     private int[] source;
+     private int count, bins;
+ 
+     // Smallest and largest value in each column.
+     private int[] mins = new int[0], maxs = new int[0];
+ 
+     // Reused for the clip of every paint, instead of allocating a new rectangle each time.
+     private final Rectangle clipBounds = new Rectangle();
+ 
+     // Whether the column aggregates need to be rebuilt from scratch (new array, new width, or a reset).
+     private boolean valid = false;
+ 
+     /*
+      * Column colors (matching the per-bar colors) and their lighter tints, used for the spread
+      * between a column's min and max value. The tints are opaque because alpha blending every column costs far more than filling it.
+      */
+     private static final Color[] COLORS = { Color.BLUE, Color.RED, InsertionSortVisualizer.DARK_GREEN, Color.GREEN, Color.BLACK, Color.ORANGE, Color.CYAN };
+     private static final Color[] SPREAD_COLORS = new Color[COLORS.length];
+     static {
+         for (int i = 0; i < COLORS.length; i++) {
+             Color c = COLORS[i];
+             SPREAD_COLORS[i] = new Color((c.getRed() + 2 * 255) / 3, (c.getGreen() + 2 * 255) / 3, (c.getBlue() + 2 * 255) / 3);
+         }
+     }
+     private static final int KEY = 0, COMPARISON = 1, SORTED = 2, COMPARED = 3, UNSORTED = 4, PROBED = 5, MOVED = 6;
+ 
+     /*
+      * invalidate: Forces every column to be recomputed on the next paint (e.g. after the array is reset in place).
+      */
+     public void invalidate() {
+         valid = false;
+     }
+ 
+     /*
+      * paint: Draws the array as one column per pixel between left and left + width, with bars growing up from bottom.
+      * dirtyRange is the packed (low << 32 | high) range of indices written since the last frame.
+      * Only the columns inside the clip are drawn, but the aggregates are always kept up to date.
+      */
+     public void paint(Graphics g, FrameState frame, long dirtyRange, int maxValue, int left, int width, int bottom, int availableHeight) {
+         int[] array = frame.getArray();
+         update(array, Math.max(1, Math.min(width, array.length)), dirtyRange);
+         double scalingFactor = (double) availableHeight / maxValue;
+ 
+         int firstColumn = 0, lastColumn = bins - 1;
+         clipBounds.setBounds(left, 0, bins, bottom);
+         Rectangle clip = g.getClipBounds(clipBounds); // Left as every column if there is no clip
+         firstColumn = Math.max(firstColumn, clip.x - left);
+         lastColumn = Math.min(lastColumn, clip.x + clip.width - left);
+ 
+         int keyIndex = frame.getKeyIndex(), currentIndex = frame.getCurrentIndex();
+         int comparisonIndex = frame.getComparisonIndex(), sortedIndex = frame.getSortedIndex();
+         int rangeLow = frame.getRangeLow(), rangeHigh = frame.getRangeHigh();
+         int probeIndex = frame.getProbeIndex(), movedLow = frame.getMovedLow(), movedHigh = frame.getMovedHigh();
+ 
+         for (int c = firstColumn; c <= lastColumn; c++) {
+             int start = columnStart(c, array.length), end = columnStart(c + 1, array.length) - 1;
+ 
+             /*
+              * A column takes the color of the most important element it contains:
+                  * BLUE       -> contains the current key element
+                  * ORANGE     -> contains the element probed by a binary search
+                  * RED        -> contains the current comparison element
+                  * CYAN       -> overlaps the block moved by a block move
+                  * GREEN      -> first element is inside the range the algorithm is working on
+                  * DARK_GREEN -> first element is SORTED and not compared to the key yet
+                  * GREEN      -> first element is SORTED and already compared to the key
+                  * BLACK      -> first element is UNSORTED
+              */
+             int state;
+             if (currentIndex >= start && currentIndex <= end) {
+                 state = KEY;
+             } else if (probeIndex >= start && probeIndex <= end) {
+                 state = PROBED;
+             } else if (comparisonIndex >= start && comparisonIndex <= end) {
+                 state = COMPARISON;
+             } else if (movedLow >= 0 && movedLow <= end && movedHigh >= start) {
+                 state = MOVED;
+             } else if (start >= rangeLow && start <= rangeHigh) {
+                 state = COMPARED;
+             } else if (start < sortedIndex) {
+                 state = SORTED;
+             } else if (start <= keyIndex) {
+                 state = COMPARED;
+             } else {
+                 state = UNSORTED;
+             }
+ 
+             int x = left + c;
+             int minHeight = (int) (mins[c] * scalingFactor);
+             int maxHeight = (int) (maxs[c] * scalingFactor);
+ 
+             // Solid up to the smallest value in the column, tinted between the smallest and largest.
+             g.setColor(COLORS[state]);
+             g.fillRect(x, bottom - minHeight, 1, minHeight);
+             if (maxHeight > minHeight) {
+                 g.setColor(SPREAD_COLORS[state]);
+                 g.fillRect(x, bottom - maxHeight, 1, maxHeight - minHeight);
+             }
+         }
+     }
+ 
+     /*
+      * update: Brings the column aggregates up to date, recomputing everything if the array length or
+      * number of columns changed, otherwise only the columns covering the dirty range. Successive frames
+      * are different copies of the same array, so a new array of the same length needs an explicit invalidate().
+      */
+     private void update(int[] array, int columns, long dirtyRange) {
+         source = array;
+         if (!valid || array.length != count || columns != bins) {
+             count = array.length;
+             bins = columns;
+             if (mins.length != bins) {
+                 mins = new int[bins];
+                 maxs = new int[bins];
+             }
+             for (int c = 0; c < bins; c++) {
+                 recompute(c);
+             }
+             valid = true;
+             return;
+         }
+ 
+         int low = (int) (dirtyRange >> 32), high = (int) dirtyRange;
+         if (low > high) return; // Nothing changed since the last frame.
+         int firstColumn = columnOf(Math.max(0, low), array.length);
+         int lastColumn = columnOf(Math.min(array.length - 1, high), array.length);
+         for (int c = firstColumn; c <= lastColumn; c++) {
+             recompute(c);
+         }
+     }
+ 
+     // Rescans the elements of a single column for its min and max value.
+     private void recompute(int column) {
+         int start = columnStart(column, source.length), end = columnStart(column + 1, source.length);
+         int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+         for (int i = start; i < end; i++) {
+             min = Math.min(min, source[i]);
+             max = Math.max(max, source[i]);
+         }
+         mins[column] = end > start ? min : 0;
+         maxs[column] = end > start ? max : 0;
+     }
+ 
+     // First element index of a column (the smallest i with i * bins / n >= column).
+     private int columnStart(int column, int n) {
+         return (int) (((long) column * n + bins - 1) / bins);
+     }
+ 
+     // Column that an element index falls into.
+     private int columnOf(int index, int n) {
+         return (int) ((long) index * bins / n);
+     }
+ }
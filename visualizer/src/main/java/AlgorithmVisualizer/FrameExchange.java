@@ -0,0 +1,102 @@
+/*
+ * FrameExchange.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.concurrent.atomic.AtomicLong;
+ import java.util.concurrent.atomic.AtomicReference;
+ 
+ /*
+  * FrameExchange hands frames from the replaying thread to the painter without either side locking.
+  * It is a triple buffer: the replay fills its back frame and swaps it atomically with the ready frame,
+  * and the painter swaps its front frame for the ready one whenever a newer frame has been published.
+  * Each side only ever writes the frame it holds, so the painter always reads a complete frame while
+  * the replay keeps going (a plain double buffer would let the replay overwrite the frame being painted).
+  * Publishing copies only the indices written since that frame was last filled, not the whole array.
+  */
+ public class FrameExchange {
+ 
+     // Packed (low << 32 | high) range that contains no indices.
+     static final long NO_RANGE = ((long) Integer.MAX_VALUE << 32) | 0xFFFFFFFFL;
+ 
+     /*
+      * The three frames:
+         * frames -> all of them, so the replay can record pending writes for each
+         * back   -> filled by the replaying thread (only touched by the publisher)
+         * ready  -> latest complete frame, swapped atomically by both sides
+         * front  -> frame the painter is reading (only touched by the painter)
+      */
+     private final FrameState[] frames;
+     private FrameState back;
+     private final AtomicReference<FrameState> ready;
+     private FrameState front;
+ 
+     // Number of frames published so far (only touched by the publisher).
+     private long version;
+ 
+     // Indices written since the painter last took the range, used by the binned renderer.
+     private final AtomicLong paintRange = new AtomicLong(NO_RANGE);
+ 
+     public FrameExchange(StepPlayer player) {
+         int[] array = player.getArray();
+         frames = new FrameState[] { new FrameState(array), new FrameState(array), new FrameState(array) };
+         front = frames[0];
+         ready = new AtomicReference<>(frames[1]);
+         back = frames[2];
+         for (FrameState frame : frames) frame.copyFrom(player, 0);
+     }
+ 
+     /*
+      * publish: Publishes the player's current state as the newest frame (replaying thread only; callers
+      * publishing from more than one thread must serialize the calls). writtenRange is the packed range of
+      * indices written since the previous publish; every frame has to pick those writes up before it is reused.
+      */
+     public void publish(StepPlayer player, long position, long writtenRange) {
+         boolean written = (int) (writtenRange >> 32) <= (int) writtenRange;
+         if (written) {
+             for (FrameState frame : frames) frame.pendingRange = widen(frame.pendingRange, writtenRange);
+         }
+         back.copyFrom(player, position);
+         back.version = ++version;
+         back = ready.getAndSet(back);
+ 
+         // Only after the frame is visible, so the painter never takes a range and then paints an older frame.
+         if (written) widenPaintRange(writtenRange);
+     }
+ 
+     /*
+      * acquire: Returns the newest published frame for the painter (painting thread only). The frame
+      * stays unchanged until the next call.
+      */
+     public FrameState acquire() {
+         if (ready.get().version > front.version) front = ready.getAndSet(front);
+         return front;
+     }
+ 
+     /*
+      * takePaintRange: Returns the range of indices written since the last call and clears it, packed as
+      * (low << 32 | high); low > high means nothing changed. Take it before acquiring the frame, so any
+      * write it misses is already in the frame (and is picked up again on the next take).
+      */
+     public long takePaintRange() {
+         return paintRange.getAndSet(NO_RANGE);
+     }
+ 
+     // Widens the painter's range to include the given packed range.
+     private void widenPaintRange(long range) {
+         long current, widened;
+         do {
+             current = paintRange.get();
+             widened = widen(current, range);
+         } while (current != widened && !paintRange.compareAndSet(current, widened));
+     }
+ 
+     // Returns the smallest packed range that contains both packed ranges.
+     static long widen(long range, long other) {
+         int low = Math.min((int) (range >> 32), (int) (other >> 32)), high = Math.max((int) range, (int) other);
+         return ((long) low << 32) | (high & 0xFFFFFFFFL);
+     }
+ }
@@ -0,0 +1,130 @@
+/*
+ * FrameState.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * FrameState is one published frame of a replay: a copy of the array and the highlight indices as
+  * they stood after a given step. The replaying thread fills a FrameState it owns and hands it to the
+  * painter through a FrameExchange; once handed over it is only read, so the painter never sees a
+  * half-applied step and never has to lock the replay.
+  */
+ public class FrameState {
+ 
+     // Copy of the working array, how many of its values are present, and the largest of them (see StepPlayer).
+     private final int[] values;
+     private int length, maxValue;
+ 
+     // Highlight indices (see StepPlayer) and the cost of the steps applied so far.
+     private int keyIndex = -1, currentIndex = -1, comparisonIndex = -1, sortedIndex = -1;
+     private int rangeLow = -1, rangeHigh = -1;
+     private int probeIndex = -1, movedLow = -1, movedHigh = -1, unstablePairs = -1;
+     private final SortCounters counters = new SortCounters();
+ 
+     /*
+      * Publication bookkeeping:
+         * version  -> increases with every publish, so the painter can tell a newer frame from an older one
+         * position -> number of steps applied when the frame was taken
+      */
+     long version;
+     private long position;
+ 
+     /*
+      * Indices written since this frame's values were last copied (packed as low << 32 | high).
+      * Only touched by the replaying thread, so the copy on the next publish is limited to what changed.
+      */
+     long pendingRange;
+ 
+     FrameState(int[] values) {
+         this.values = values.clone();
+         this.pendingRange = FrameExchange.NO_RANGE;
+     }
+ 
+     /*
+      * copyFrom: Brings this frame up to date with the player, copying only the pending range of values.
+      */
+     void copyFrom(StepPlayer player, long position) {
+         int low = (int) (pendingRange >> 32), high = (int) pendingRange;
+         if (low <= high) System.arraycopy(player.getArray(), low, values, low, high - low + 1);
+         pendingRange = FrameExchange.NO_RANGE;
+ 
+         length = player.getLength();
+         maxValue = player.getMaxValue();
+         keyIndex = player.getKeyIndex();
+         currentIndex = player.getCurrentIndex();
+         comparisonIndex = player.getComparisonIndex();
+         sortedIndex = player.getSortedIndex();
+         rangeLow = player.getRangeLow();
+         rangeHigh = player.getRangeHigh();
+         probeIndex = player.getProbeIndex();
+         movedLow = player.getMovedLow();
+         movedHigh = player.getMovedHigh();
+         unstablePairs = player.getUnstablePairs();
+         counters.set(player.getCounters());
+         this.position = position;
+     }
+ 
+     // Accessors for the painter.
+     public int[] getArray() {
+         return values;
+     }
+ 
+     public int getLength() {
+         return length;
+     }
+ 
+     public int getMaxValue() {
+         return maxValue;
+     }
+ 
+     public int getKeyIndex() {
+         return keyIndex;
+     }
+ 
+     public int getCurrentIndex() {
+         return currentIndex;
+     }
+ 
+     public int getComparisonIndex() {
+         return comparisonIndex;
+     }
+ 
+     public int getSortedIndex() {
+         return sortedIndex;
+     }
+ 
+     public int getRangeLow() {
+         return rangeLow;
+     }
+ 
+     public int getRangeHigh() {
+         return rangeHigh;
+     }
+ 
+     public int getProbeIndex() {
+         return probeIndex;
+     }
+ 
+     public int getMovedLow() {
+         return movedLow;
+     }
+ 
+     public int getMovedHigh() {
+         return movedHigh;
+     }
+ 
+     public int getUnstablePairs() {
+         return unstablePairs;
+     }
+ 
+     public SortCounters getCounters() {
+         return counters;
+     }
+ 
+     public long getPosition() {
+         return position;
+     }
+ }
@@ -0,0 +1,46 @@
+/*
+ * HeapSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * HeapSort builds a max-heap in place, then repeatedly swaps the largest element to the
+  * end of the heap and sifts the new root down. The heap is shown as the working range.
+  */
+ public class HeapSort implements SortAlgorithm {
+ 
+     @Override
+     public String getName() {
+         return "Heap Sort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         int n = recorder.length();
+         recorder.range(0, n - 1);
+         for (int start = n / 2 - 1; start >= 0; start--) {
+             siftDown(recorder, start, n - 1);
+         }
+         for (int end = n - 1; end > 0; end--) {
+             recorder.swap(0, end);
+             recorder.range(0, end - 1);
+             siftDown(recorder, 0, end - 1);
+         }
+     }
+ 
+     // Moves the element at root down until neither child (within 0..end) is larger.
+     private static void siftDown(SortRecorder recorder, int root, int end) {
+         while (2 * root + 1 <= end) {
+             int child = 2 * root + 1;
+             if (child + 1 <= end && recorder.compare(child, child + 1) < 0) {
+                 child++;
+             }
+             if (recorder.compare(root, child) >= 0) return;
+             recorder.swap(root, child);
+             root = child;
+         }
+     }
+ }
@@ -0,0 +1,46 @@
+/*
+ * HeapStepLog.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * HeapStepLog stores the steps on the heap in fixed size long[] chunks, so the log can grow
+  * to very long runs without ever copying what has already been recorded.
+  */
+ public class HeapStepLog extends StepLog {
+ 
+     // Most steps a heap log holds (8 GB of steps; insertion sort on about 65,000 values). Longer runs are mapped.
+     public static final long MAX_STEPS = 1L << 30;
+ 
+     // Each chunk holds 2^16 steps (512 KB).
+     private static final int CHUNK_BITS = 16, CHUNK_SIZE = 1 << CHUNK_BITS, CHUNK_MASK = CHUNK_SIZE - 1;
+ 
+     // Recorded steps (a chunk is only read once the size published by StepLog covers it).
+     private volatile long[][] chunks = new long[4][];
+ 
+     @Override
+     protected void store(long index, long step) {
+         if (index == MAX_STEPS) {
+             throw new IllegalStateException("The sort takes more than " + MAX_STEPS + " steps, the most that can be recorded on the heap");
+         }
+         long[][] current = chunks;
+         int chunk = (int) (index >>> CHUNK_BITS);
+         if (chunk == current.length) {
+             long[][] grown = new long[current.length * 2][];
+             System.arraycopy(current, 0, grown, 0, current.length);
+             chunks = current = grown;
+         }
+         if (current[chunk] == null) {
+             current[chunk] = new long[CHUNK_SIZE];
+         }
+         current[chunk][(int) index & CHUNK_MASK] = step;
+     }
+ 
+     @Override
+     protected long load(long index) {
+         return chunks[(int) (index >>> CHUNK_BITS)][(int) index & CHUNK_MASK];
+     }
+ }
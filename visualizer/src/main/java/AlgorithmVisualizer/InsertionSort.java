@@ -0,0 +1,123 @@
+/*
+ * InsertionSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * InsertionSort is the classic insertion sort that the visualizer was built around.
+  * The steps match the original animation exactly:
+     * BOUNDARY -> pause at the start of every pass (after the first) to show the sorted portion
+     * KEY      -> pick up the key and compare it with its left neighbour
+     * SHIFT    -> move the key one position left and compare it with the next element
+  */
+ public class InsertionSort implements SortAlgorithm {
+ 
+     @Override
+     public String getName() {
+         return "Insertion Sort";
+     }
+ 
+     @Override
+     public boolean usesKeyLayout() {
+         return true;
+     }
+ 
+     // A shift for each of the ~n^2 / 4 inversions of a random array, plus a boundary and a key per pass.
+     @Override
+     public long estimateSteps(int length) {
+         return (long) length * length / 4 + 2L * length;
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         for (int i = 0; i < recorder.length(); i++) {
+             insert(recorder, i);
+         }
+     }
+ 
+     /*
+      * insert: One pass of the sort, inserting the element at i into the sorted elements before it.
+      * The sort is online, so a stream runs the same pass for each value as it arrives (see SortRecorder).
+      */
+     static void insert(SortRecorder recorder, int i) {
+         if (i > 0) {
+             recorder.boundary(i);
+         }
+ 
+         int j = i - 1;
+         recorder.key(i, j);
+ 
+         // Shift the key (always at j + 1) left while the element to its left is greater than it.
+         while (j >= 0 && recorder.exceeds(j, j + 1)) {
+             recorder.shift(j);
+             j = j - 1;
+         }
+     }
+ 
+     /*
+      * sort: The same insertion sort on a plain array, without recording anything.
+      * This is the raw kernel that the recorded version is measured against.
+      */
+     public static void sort(int[] array) {
+         for (int i = 1; i < array.length; i++) {
+             int key = array[i];
+             int j = i - 1;
+             while (j >= 0 && array[j] > key) {
+                 array[j + 1] = array[j];
+                 j = j - 1;
+             }
+             array[j + 1] = key;
+         }
+     }
+ 
+     /*
+      * sort: The same kernel on a long[] (elements twice as wide, compared as longs), to measure what wider elements cost.
+      */
+     public static void sort(long[] array) {
+         for (int i = 1; i < array.length; i++) {
+             long key = array[i];
+             int j = i - 1;
+             while (j >= 0 && array[j] > key) {
+                 array[j + 1] = array[j];
+                 j = j - 1;
+             }
+             array[j + 1] = key;
+         }
+     }
+ 
+     /*
+      * sort: The same kernel on a double[] (never NaN, so the primitive comparison is exact).
+      */
+     public static void sort(double[] array) {
+         for (int i = 1; i < array.length; i++) {
+             double key = array[i];
+             int j = i - 1;
+             while (j >= 0 && array[j] > key) {
+                 array[j + 1] = array[j];
+                 j = j - 1;
+             }
+             array[j + 1] = key;
+         }
+     }
+ 
+     /*
+      * sort: The same kernel on key + payload records held in two arrays, sorted by key. Equal keys are never
+      * shifted past each other, so their payloads stay in their original order (the sort is stable).
+      */
+     public static void sort(int[] keys, int[] payloads) {
+         for (int i = 1; i < keys.length; i++) {
+             int key = keys[i], payload = payloads[i];
+             int j = i - 1;
+             while (j >= 0 && keys[j] > key) {
+                 keys[j + 1] = keys[j];
+                 payloads[j + 1] = payloads[j];
+                 j = j - 1;
+             }
+             keys[j + 1] = key;
+             payloads[j + 1] = payload;
+         }
+     }
+ }
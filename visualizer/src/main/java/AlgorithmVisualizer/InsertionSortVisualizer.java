@@ -0,0 +1,1617 @@
+/*
+ * InsertionSortVisualizer.java
+ * Quinton Bock
+ * 3/21/2025
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.*;
+ import java.awt.event.ActionListener;
+ import java.awt.geom.Rectangle2D;
+ import java.awt.image.BufferedImage;
+ import java.awt.image.VolatileImage;
+ import java.io.IOException;
+ import java.nio.file.Path;
+ import java.nio.file.Paths;
+ import java.util.Arrays;
+ import java.util.concurrent.Executor;
+ import java.util.concurrent.Executors;
+ import java.util.concurrent.ScheduledExecutorService;
+ import java.util.concurrent.TimeUnit;
+ import java.util.concurrent.atomic.AtomicLong;
+ import java.util.concurrent.atomic.AtomicReference;
+ import javax.swing.*;
+ 
+ /*
+  * InsertionSortVisualizer is a JPanel-based class that visually demonstrates
+  * the insertion sort algorithm. It includes controls for starting, pausing, resetting,
+  * and adjusting sorting parameters.
+  */
+ public class InsertionSortVisualizer extends JPanel {
+     
+     // Arrays for current and original (unsorted) data.
+     private int[] array, originalArray;
+ 
+     /*
+      * Streaming input (see setStream):
+         * streamSource   -> where the values of a streamed sort come from (null when the whole array is there up front)
+         * originalLength -> number of values present before the sort starts (0 for a stream, whose array only sets the window)
+      */
+     private ValueStream.Source streamSource;
+     private int originalLength;
+     
+     // Replays the recorded sort onto the array and tracks the highlight indices (key, current, comparison, sorted).
+     private StepPlayer player;
+ 
+     // Frames published by the replay for the painter, so painting never reads a half-applied step.
+     private volatile FrameExchange frames;
+ 
+     // Algorithm that is recorded when sorting starts, and the type of elements it sorts the values as (see SortElements).
+     private SortAlgorithm algorithm = new InsertionSort();
+     private String elementType = SortElements.INT;
+     
+     // State of the sort (WAITING, RUNNING, PAUSED or FINISHED), changed atomically from any thread (see SortState).
+     private final AtomicReference<SortState> state = new AtomicReference<>(SortState.WAITING);
+ 
+     // An object used to keep replayed steps and published frames from interleaving with pause/resume/seek (never held while waiting).
+     private final Object pauseLock = new Object();
+     
+     /* 
+      * GUI components for controlling the visualization:
+          * startButton          -> start/pause/resume the sorting process
+          * resetButton          -> reset/refresh the array and sorting process
+          * numValuesField       -> number of values in the array
+          * valueRangeField      -> range for each value in the array
+          * sortingSpeedSlider   -> speed control for the sorting animation
+          * algorithmBox         -> sorting algorithm to run
+          * elementTypeBox       -> type of elements the values are sorted as (int, long, double or keyed record)
+          * distributionBox      -> distribution the values are generated in
+          * seedField            -> seed the values are generated from (blank for a new random seed every time)
+          * frameRateBox         -> frames per second drawn at the fastest speed
+          * stepsPerFrameSpinner -> steps replayed per frame at the fastest speed
+          * timelineSlider       -> seek to any recorded step (while paused or finished)
+          * stepBackButton       -> go back one step (while paused or finished)
+          * stepForwardButton    -> go forward one step (while paused or finished)
+      */
+     private JButton startButton, resetButton, stepBackButton, stepForwardButton, saveButton, openButton;
+     private JSlider timelineSlider;
+     private JTextField numValuesField, valueRangeField, seedField;
+     private JSlider sortingSpeedSlider;
+     private JComboBox<String> algorithmBox, distributionBox, elementTypeBox;
+     private JComboBox<Integer> frameRateBox;
+     private JSpinner stepsPerFrameSpinner;
+     private JLabel numValuesLabel, valueRangeLabel, sortingSpeedLabel, algorithmLabel, frameRateLabel, stepsPerFrameLabel;
+     private JLabel distributionLabel, seedLabel, elementTypeLabel;
+ 
+     // Constants for the maximum number of values and range.
+     static final int MAX_NUM_VALUES = 1_000_000;  // Past ~500 values the bars are binned into one column per pixel.
+     static final int MAX_VALUE_RANGE = 1_000_000; // Labels are only drawn while they fit over their bars, so large ranges just drop them.
+ 
+     
+     // Sorting speed (0 to 100) and the animation delay value it sets for controlling sort speed.
+     private int sortingSpeed = SORTING_SPEED;
+     private double animationDelay;
+     // Maximum delay constant (in milliseconds).
+     private static final double MAX_DELAY = 3000.0;
+ 
+     /*
+      * Frame-capped pacing used at the fastest speed (100), instead of repainting after every tick:
+          * FRAME_RATES             -> frame rates that can be selected
+          * DEFAULT_FRAME_RATE      -> frames per second drawn by default
+          * DEFAULT_STEPS_PER_FRAME -> steps replayed per frame by default
+          * MAX_STEPS_PER_FRAME     -> largest steps-per-frame budget that can be selected
+      */
+     private static final Integer[] FRAME_RATES = { 30, 60, 120 };
+     private static final int DEFAULT_FRAME_RATE = 60, DEFAULT_STEPS_PER_FRAME = 1000, MAX_STEPS_PER_FRAME = 1_000_000;
+ 
+     /*
+      * Current frame-capped pacing:
+          * framesPerSecond -> rate of the render clock
+          * stepsPerFrame   -> steps the step clock replays per frame
+          * frameCapped     -> whether the replay is frame-capped (speed 100) rather than paced by the animation delay
+          * renderClock     -> Swing timer that repaints everything published since the last frame, once per frame
+          *                    (null when a race drives the render clock of all its lanes)
+          * pendingRepaint  -> indices published since the last frame (packed low << 32 | high), waiting for the render clock
+      */
+     private int framesPerSecond = DEFAULT_FRAME_RATE, stepsPerFrame = DEFAULT_STEPS_PER_FRAME;
+     private volatile boolean frameCapped = false;
+     private final Timer renderClock;
+     private final AtomicLong pendingRepaint = new AtomicLong(FrameExchange.NO_RANGE);
+ 
+     // Live counters of the current sort (refreshed in the overlay by the render clock).
+     private final SortMetrics metrics = new SortMetrics();
+ 
+     // Flight recorder event timing the current pause, if any (see SortEvents; only used on the Event Dispatch Thread).
+     private SortEvents.Pause pauseEvent;
+     
+     /*
+      * Overlay of live counters, drawn in the padding above the bars:
+          * OVERLAY_FONT        -> font for the counters
+          * OVERLAY_LINE_HEIGHT -> space between lines (three lines fit above the tallest bar and its label)
+          * OVERLAY_BOUNDS      -> region the overlay is drawn in, repainted on every render clock frame
+      */
+     private static final Font OVERLAY_FONT = new Font("Monospaced", Font.PLAIN, 12);
+     private static final int OVERLAY_LINE_HEIGHT = 16;
+     private static final Rectangle OVERLAY_BOUNDS = new Rectangle(BarLayout.WALL_PADDING, 4, 1000, 3 * OVERLAY_LINE_HEIGHT + 4);
+     
+     /* 
+      * Default parameters for the visualization.
+          * NUM_VALUES    -> default number of values in the array 
+          * VALUE_RANGE   -> default range for each value in the array
+          * SORTING_SPEED -> default sorting speed (exponential from slow sorting to infinitely fast sorting)
+          * STREAM_WINDOW -> default number of streamed values sorted before the stream stops
+          * STREAM_RATE   -> default number of generated values streamed in per second
+      */
+     private static final int NUM_VALUES = 100, VALUE_RANGE = 50, SORTING_SPEED = 80;
+     private static final int STREAM_WINDOW = 1000, STREAM_RATE = 100;
+     
+     // Variables to keep track of the last used number of values and range.
+     private int lastNumValues = NUM_VALUES, lastValueRange = VALUE_RANGE;
+ 
+     // Distribution and seed the current array was generated from (so it can be generated again).
+     private String distribution = ArrayGenerator.UNIFORM;
+     private long seed;
+     
+     // Custom color for sorted elements.
+     static final Color DARK_GREEN = new Color(0, 100, 0);
+     
+     /*
+      * Replay of the current sort:
+          * stepScheduler   -> daemon thread(s) that run every step clock tick (shared by all sorts of this panel,
+          *                    and by all the lanes of a race)
+          * workers         -> executor the recording and indexing run on (shared by all panels unless one is given)
+          * clock           -> advances the replay one step per tick, paced by the animation delay
+          * log             -> steps recorded so far for the current sort; also the replay's cancellation token, since a
+          *                    reset clears it and a tick of the old replay stops as soon as it sees a different log
+          * nextStep        -> position in the log of the next step to replay
+          * tickChanged     -> indices that look different since the last published frame (packed low << 32 | high)
+          * finished        -> whether the FINISH step was replayed but not yet published
+          * tasks           -> scope of the current sort's background tasks, cancelled together on reset:
+          *                    recording the sort into the log, and taking the timeline's checkpoints as it is recorded
+          * timeline        -> checkpoints of the current sort, used to seek to any recorded step
+          * seekTarget      -> step a requested seek is still to move to (see requestSeek), or NO_SEEK
+          * finishListener  -> run on the Event Dispatch Thread once the final frame is drawn, or null
+      */
+     private final ScheduledExecutorService stepScheduler;
+     private final Executor workers;
+     private StepClock clock;
+     private volatile StepLog log;
+     private long nextStep;
+     private long tickChanged = FrameExchange.NO_RANGE;
+     private boolean finished;
+     private TaskScope tasks;
+     private volatile Timeline timeline;
+     private final AtomicLong seekTarget = new AtomicLong(NO_SEEK);
+     private Runnable finishListener;
+ 
+     // No seek requested.
+     private static final long NO_SEEK = -1;
+ 
+     /*
+      * State of the timeline slider (only used on the Event Dispatch Thread):
+          * timelineLength   -> timeline length the slider was last scaled to
+          * updatingTimeline -> whether the slider is being moved by the program rather than the user
+      */
+     private long timelineLength;
+     private boolean updatingTimeline = false;
+ 
+     // Renderer used once there are too many values to draw a separate bar for each.
+     private final BinnedBarRenderer binnedRenderer = new BinnedBarRenderer();
+ 
+     // Geometry of the bars for the current panel size and number of values (see barLayout).
+     private volatile BarLayout layout;
+ 
+     /*
+      * Values cached between frames instead of being recomputed on every paint (the largest value, which the bars are
+      * scaled to, is kept by the player and published with each frame, since a stream can bring a larger one at any step):
+          * labels      -> pre-rendered bar labels, rebuilt only when the bar width changes the font size
+          * overlayText -> reused buffer the overlay lines are formatted into
+      */
+     private final LabelCache labels = new LabelCache();
+     private final OverlayText overlayText = new OverlayText();
+ 
+     /*
+      * Back buffer that frames are rendered into, so a paint only re-renders what changed and copies the rest
+      * (only used on the Event Dispatch Thread, except dirtyColumns):
+          * backBuffer   -> image of the whole panel (an accelerated VolatileImage when on screen, otherwise a BufferedImage)
+          * backGraphics -> graphics of backBuffer, kept for the lifetime of the buffer
+          * dirtyColumns -> x-range of the panel (packed left << 32 | right, exclusive) whose bars changed since they
+          *                 were last rendered into the back buffer; marked by whichever thread requests the repaint
+          * paintedVersion -> version of the frame last rendered into the back buffer
+          * clipBounds, barBounds, renderBounds -> rectangles reused on every paint instead of allocating new ones
+          * bar -> shape reused for every bar that doesn't fall on whole pixels
+      */
+     private Image backBuffer;
+     private Graphics2D backGraphics;
+     private static final long ALL_COLUMNS = ((long) Integer.MIN_VALUE << 32) | (Integer.MAX_VALUE & 0xFFFFFFFFL);
+     private final AtomicLong dirtyColumns = new AtomicLong(ALL_COLUMNS);
+     private long paintedVersion;
+     private final Rectangle clipBounds = new Rectangle(), barBounds = new Rectangle(), renderBounds = new Rectangle();
+     private final Rectangle2D.Double bar = new Rectangle2D.Double();
+ 
+     /*
+      * Constructor: Initializes the array with random values, sets the animation delay
+      * based on the default sorting speed, clones the original array, and paints the initial array.
+      * The panel runs its step clock on its own thread, records on the shared task workers, and has its own render clock.
+      */
+     public InsertionSortVisualizer() {
+         this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+             Thread thread = new Thread(runnable, "step-clock");
+             thread.setDaemon(true);
+             return thread;
+         }), TaskScope.workers(), true);
+     }
+ 
+     /*
+      * Constructor: Same as above, but runs the step clock and the recording on the given (possibly shared) executors.
+      * Without its own render clock, frames are only drawn when renderFrame is called (e.g. by a race, for all its lanes at once).
+      */
+     InsertionSortVisualizer(ScheduledExecutorService stepScheduler, Executor workers, boolean ownRenderClock) {
+         this.stepScheduler = stepScheduler;
+         this.workers = workers;
+         this.renderClock = ownRenderClock ? new Timer(1000 / DEFAULT_FRAME_RATE, e -> renderFrame()) : null;
+ 
+         // Allocate the array with the default number of values.
+         this.array = new int[NUM_VALUES];
+ 
+         // Calculate the animation delay using a cubic relationship to the sorting speed.
+         this.animationDelay = MAX_DELAY * Math.pow(1 - (double) (SORTING_SPEED / 100.0), 3);
+ 
+         // Fill the array with random numbers within the specified value range.
+         this.seed = ArrayGenerator.randomSeed();
+         ArrayGenerator.fill(array, distribution, VALUE_RANGE, seed);
+ 
+         // Clone the initial array to preserve the original unsorted values.
+         this.originalArray = array.clone();
+         this.originalLength = array.length;
+         this.player = new StepPlayer(array);
+         this.frames = new FrameExchange(player);
+ 
+         // Trigger a repaint to display the initial unsorted array.
+         this.repaintAll();
+     }
+     
+     /*
+      * updateArray: Updates the array with a new number of values, value range, and sorting speed.
+      * It then repaints the window to reflect the new configuration.
+      */
+     public void updateArray(int numValues, int valueRange, int sortingSpeed) {
+         updateArray(numValues, valueRange, sortingSpeed, distribution, ArrayGenerator.randomSeed());
+     }
+ 
+     /*
+      * updateArray: Same as above, but generates the values in the given distribution from the given seed,
+      * so the same arguments always produce the same array.
+      */
+     public void updateArray(int numValues, int valueRange, int sortingSpeed, String distribution, long seed) {
+         // Update the animation delay based on the new sorting speed.
+         setSortingSpeed(sortingSpeed);
+ 
+         // Populate a new array with values in the new range (large arrays are generated in parallel).
+         this.distribution = ArrayGenerator.forName(distribution);
+         this.seed = seed;
+         setArray(ArrayGenerator.generate(distribution, numValues, valueRange, seed));
+         if (seedField != null) seedField.setToolTipText("Seed of the current values: " + seed);
+         if (algorithmBox != null) algorithmBox.setEnabled(true); // No longer streaming
+         if (elementTypeBox != null) elementTypeBox.setEnabled(true);
+     }
+ 
+     /*
+      * readSeed: Reads the seed typed in the seed field, or picks a new random seed if the field is blank.
+      */
+     private long readSeed() {
+         String text = seedField.getText().trim();
+         return text.isEmpty() ? ArrayGenerator.randomSeed() : Long.parseLong(text);
+     }
+ 
+     // Distribution and seed the current array was generated from.
+     public String getDistribution() {
+         return distribution;
+     }
+ 
+     public long getSeed() {
+         return seed;
+     }
+ 
+     /*
+      * setArray: Replaces the array with the given values (e.g. a prepared benchmark input) and
+      * saves a copy as the original unsorted array, then repaints the window.
+      */
+     public void setArray(int[] values) {
+         this.streamSource = null;
+         this.array = values;
+         this.originalArray = array.clone();
+         this.originalLength = array.length;
+         this.player = new StepPlayer(array);
+         this.frames = new FrameExchange(player);
+         labels.invalidate();
+         binnedRenderer.invalidate();
+ 
+         // Refresh the window display.
+         this.repaintAll();
+     }
+ 
+     /*
+      * setStream: Sorts values streamed in from the given source instead of an array generated up front (until the next
+      * setArray). The panel starts empty and lays out room for window values; once the sort is started, each value is
+      * inserted into the sorted values as it arrives, and the sort finishes once the window is full or the source runs out.
+      * Insertion sort is the algorithm, since it is online: it never needs to see a value before it arrives.
+      */
+     public void setStream(ValueStream.Source source, int window) {
+         if (state.get().isStarted()) return;
+         if (window < 1 || window > SortStep.MAX_INDEX) throw new IllegalArgumentException("Window must be between 1 and " + SortStep.MAX_INDEX + ": " + window);
+         this.algorithm = new InsertionSort();
+         this.elementType = SortElements.INT; // Streamed values are ints
+         this.array = new int[window];
+         this.originalArray = array.clone();
+         this.originalLength = 0;
+         this.player = new StepPlayer(array, 0);
+         this.frames = new FrameExchange(player);
+         this.streamSource = source;
+         labels.invalidate();
+         binnedRenderer.invalidate();
+         this.repaintAll();
+     }
+ 
+     /*
+      * setSortingSpeed: Adjusts the animation delay based on the sorting speed.
+      * The animation delay is the amount of time that the program waits between each step of the sorting process so the user can see the changes.
+      * The delay is calculated such that the user can find a speed that works for them. The effect is as follows:
+      * At maximum speed (100) -> delay is at minimum (0)    -> sort runs instantly.
+      * At minimum speed (0)   -> delay is at maximum (3000) -> sort runs very slowly for time to understand each step
+      */
+     public void setSortingSpeed(int sortingSpeed) {
+         this.sortingSpeed = sortingSpeed;
+         if (sortingSpeed == 100)
+             this.animationDelay = 0;
+         else 
+             // Delay is calculated using a squared relationship to the speed (for a non-linear effect).
+             this.animationDelay = MAX_DELAY * Math.pow(1 - (double) (sortingSpeed / 100.0), 2);
+ 
+         // A running clock picks up the new speed immediately.
+         applyPacing();
+     }
+ 
+     /*
+      * setFramePacing: Sets the frame rate and the steps-per-frame budget used at the fastest speed.
+      * The frame rate is one of FRAME_RATES; the budget is clamped to 1..MAX_STEPS_PER_FRAME.
+      */
+     public void setFramePacing(int framesPerSecond, int stepsPerFrame) {
+         this.framesPerSecond = framesPerSecond;
+         this.stepsPerFrame = Math.max(1, Math.min(MAX_STEPS_PER_FRAME, stepsPerFrame));
+         if (renderClock != null) renderClock.setDelay(1000 / framesPerSecond);
+         applyPacing();
+     }
+ 
+     /*
+      * applyPacing: Paces the step clock (if a sort is running) by the animation delay, or at the fastest speed
+      * by a fixed number of steps per frame so the CPU use and the animation stay steady. A delay of a frame or
+      * more is rounded to whole frames, so every step stays on screen for the same number of frames.
+      */
+     private void applyPacing() {
+         frameCapped = animationDelay == 0;
+         if (clock == null) return;
+         double frameMillis = 1000.0 / framesPerSecond;
+         if (frameCapped)
+             clock.setStepsPerFrame(stepsPerFrame, framesPerSecond);
+         else if (animationDelay >= frameMillis)
+             clock.setFramesPerStep((int) Math.round(animationDelay / frameMillis), framesPerSecond);
+         else
+             clock.setPeriod(delayNanos());
+     }
+ 
+     // Animation delay converted to nanoseconds for the step clock (fractions of a millisecond are kept).
+     private long delayNanos() {
+         return (long) (animationDelay * TimeUnit.MILLISECONDS.toNanos(1));
+     }
+     
+     /*
+      * reset: Resets the array back to its original state (before the sort started) with no highlighted indices.
+      * A tick of a cancelled replay may still be finishing its last step on the old array, so rather than restoring
+      * that array in place (which would mean waiting for the tick), the panel switches to a fresh copy of the original.
+      * Finally, repaints the window to reflect the reset.
+      */
+     public void reset() {
+         this.array = originalArray.clone();
+         this.player = new StepPlayer(array, originalLength);
+         this.frames = new FrameExchange(player);
+         binnedRenderer.invalidate();
+ 
+         // Update the visual display.
+         this.repaintAll();
+     }
+ 
+     /*
+      * setElementType: Selects the type of elements the values are sorted as (only while WAITING, and not for a stream).
+      * The bars look the same for every type (see SortElements); the overlay names the type and, for keyed records,
+      * shows whether the sort was stable once it has finished.
+      */
+     public void setElementType(String type) {
+         if (state.get().isStarted() || streamSource != null) return;
+         this.elementType = SortElements.forName(type);
+         this.repaintAll();
+     }
+ 
+     // Current state of the sort.
+     public SortState getState() {
+         return state.get();
+     }
+ 
+     /*
+      * setAlgorithm: Selects the sorting algorithm to run (only while WAITING, and not for a stream) and redraws the array in its layout.
+      */
+     public void setAlgorithm(SortAlgorithm algorithm) {
+         if (state.get().isStarted() || streamSource != null) return;
+         this.algorithm = algorithm;
+         this.repaintAll();
+     }
+ 
+     /*
+      * startSort: Records the selected algorithm headless at full speed on a recording thread, while the step
+      * clock replays the recorded steps onto the array, visually updating the panel at each step.
+      * Replay starts as soon as the first steps are recorded, so very large arrays don't wait for the whole run.
+      * A stream (see setStream) is recorded the same way, as fast as its values arrive.
+      * Throws an IllegalArgumentException (and stays WAITING) if the sort would take more steps than can be recorded.
+      */
+     public void startSort() {
+         if (state.get() != SortState.WAITING) return; // Only start from WAITING (reset a finished sort first).
+ 
+         // Record every step of the sort without painting or delays (long runs are recorded off the heap, and runs too
+         // long to record at all are refused here).
+         SortAlgorithm sortAlgorithm = algorithm;
+         StepLog sortLog = StepLog.forSort(sortAlgorithm, array.length);
+         if (!state.compareAndSet(SortState.WAITING, SortState.RUNNING)) {
+             sortLog.close();
+             return;
+         }
+         tasks = new TaskScope(workers);
+         if (streamSource != null) {
+             ValueStream stream = ValueStream.start(streamSource, ValueStream.QUEUE_CAPACITY, tasks);
+             int window = array.length;
+             tasks.fork(() -> SortRecorder.record(stream, window, sortLog));
+         } else {
+             SortElements elements = SortElements.of(elementType, array);
+             tasks.fork(() -> SortRecorder.record(sortAlgorithm, elements, sortLog));
+         }
+ 
+         // Index checkpoints from the log as it is recorded, so any step can be reached quickly.
+         timeline = new Timeline(array, originalLength, sortLog);
+         tasks.fork(timeline::index);
+ 
+         // Replay the steps one clock tick at a time (a tick of a cancelled replay may still hold the lock for one more step).
+         metrics.reset();
+         metrics.start();
+         StepPlayer sortPlayer = player;
+         FrameExchange sortFrames = frames;
+         synchronized (pauseLock) {
+             log = sortLog;
+             nextStep = 0;
+             tickChanged = FrameExchange.NO_RANGE;
+             finished = false;
+         }
+         clock = new StepClock(stepScheduler, () -> advance(sortLog, sortPlayer), () -> publishFrame(sortLog, sortPlayer, sortFrames), delayNanos());
+         applyPacing();
+         if (renderClock != null) renderClock.start();
+         clock.start();
+     }
+ 
+     /*
+      * pauseSort: Pauses the replay by cancelling the clock's next tick. (Transition from RUNNING -> PAUSED)
+      */
+     public void pauseSort() {
+         if (!state.compareAndSet(SortState.RUNNING, SortState.PAUSED)) return;
+         clock.pause();
+         metrics.pause();
+         pauseEvent = new SortEvents.Pause();
+         pauseEvent.begin();
+     }
+ 
+     /*
+      * resumeSort: Restarts the clock from where the replay was paused. (Transition from PAUSED -> RUNNING)
+      */
+     public void resumeSort() {
+         if (!state.compareAndSet(SortState.PAUSED, SortState.RUNNING)) return;
+         endPause();
+         metrics.resume();
+         if (renderClock != null) renderClock.start();
+         clock.start();
+     }
+ 
+     /*
+      * stopSort: Cancels the replay and the sort's background tasks (if any are still running) and restores the original array.
+      * (Transition from any state -> WAITING)
+      * Never waits: the recording stops at its next cancellation check, and a tick that is mid-step finishes that step on the
+      * old array and then sees the cleared log, so it takes no further steps.
+      */
+     public void stopSort() {
+         state.set(SortState.WAITING);
+         StepLog sortLog = log;
+         log = null;
+         if (sortLog != null) sortLog.close();
+         if (clock != null) clock.pause();
+         if (tasks != null) tasks.cancel();
+         if (renderClock != null) renderClock.stop();
+         endPause();
+         clock = null;
+         tasks = null;
+         timeline = null;
+         reset();
+         metrics.reset();
+         pendingRepaint.set(FrameExchange.NO_RANGE);
+     }
+ 
+     // Commits the event of the pause that just ended, with the step it ended at.
+     private void endPause() {
+         SortEvents.Pause event = pauseEvent;
+         pauseEvent = null;
+         if (event == null || !event.shouldCommit()) return;
+         synchronized (pauseLock) {
+             event.step = nextStep;
+         }
+         event.commit();
+     }
+ 
+     /*
+      * seek: Moves the replay to the given step (only while PAUSED or FINISHED) by restoring the closest timeline
+      * checkpoint and replaying the steps after it. Seeking back from the end of a FINISHED sort makes it PAUSED
+      * again, so it can be resumed; seeking to the last recorded step of a complete sort makes it FINISHED.
+      * On a long run the checkpoints can be millions of steps apart, so the steps are replayed onto a copy of the
+      * player without holding pauseLock, and the copy only replaces the player if the replay hasn't moved meanwhile.
+      * The controls seek through requestSeek, so this never runs on the Event Dispatch Thread.
+      */
+     public void seek(long target) {
+         Timeline sortTimeline;
+         SortState current;
+         StepPlayer sought;
+         long from;
+         synchronized (pauseLock) {
+             sortTimeline = timeline;
+             current = state.get();
+             if (!current.isStopped() || sortTimeline == null || target == nextStep) return;
+             sought = player.copy();
+             from = nextStep;
+         }
+         long position = sortTimeline.seek(sought, from, target);
+ 
+         synchronized (pauseLock) {
+             if (timeline != sortTimeline || nextStep != from) return; // Reset or moved meanwhile
+             boolean atEnd = sortTimeline.isComplete() && position >= sortTimeline.length();
+             if (!state.compareAndSet(current, atEnd ? SortState.FINISHED : SortState.PAUSED)) return; // Resumed meanwhile
+             player.restore(sought);
+             nextStep = position;
+             finished = false;
+             tickChanged = FrameExchange.NO_RANGE;
+             frames.publish(player, nextStep, player.takeDirtyRange());
+             metrics.published(player.getCounters(), nextStep, log);
+         }
+ 
+         // Any highlight may have moved, so redraw everything.
+         this.repaintAll();
+     }
+ 
+     /*
+      * requestSeek: Seeks to the given step on the step clock's thread (idle while PAUSED or FINISHED) instead of the
+      * caller's, then updates the timeline controls. Only the newest target waits while a seek is running, so dragging
+      * the slider never queues up a backlog of seeks.
+      */
+     private void requestSeek(long target) {
+         if (seekTarget.getAndSet(target) != NO_SEEK) return; // The seek already requested moves to the new target
+         stepScheduler.execute(() -> {
+             long sought;
+             do {
+                 sought = seekTarget.get();
+                 seek(sought);
+             } while (!seekTarget.compareAndSet(sought, NO_SEEK));
+             SwingUtilities.invokeLater(() -> {
+                 if (timelineSlider != null && seekTarget.get() == NO_SEEK) updateTimeline();
+             });
+         });
+     }
+ 
+     /*
+      * saveSession: Saves the original values, their settings, the algorithm, the pacing and the step the replay
+      * has reached (0 while WAITING) to the given file (see Session).
+      */
+     public void saveSession(Path file) throws IOException {
+         if (streamSource != null) throw new IOException("A streamed sort has no values to save until they arrive");
+         long step;
+         synchronized (pauseLock) {
+             step = log != null ? nextStep : 0;
+         }
+         new Session(originalArray, distribution, seed, lastValueRange, algorithm.getName(), elementType,
+                 sortingSpeed, framesPerSecond, stepsPerFrame, step).write(file);
+     }
+ 
+     /*
+      * loadSession: Stops any sort and restores a saved session. A session saved before its sort started is left
+      * WAITING; otherwise the sort is recorded again and PAUSED at the saved step as soon as that step is recorded.
+      * Throws an IllegalArgumentException (and changes nothing) if the session names an unknown algorithm or
+      * distribution, has invalid pacing, or was saved mid-sort and the sort takes more steps than can be recorded.
+      */
+     public void loadSession(Session session) {
+         SortAlgorithm sessionAlgorithm = SortAlgorithms.forName(session.getAlgorithm());
+         String sessionElementType = SortElements.forName(session.getElementType());
+         String sessionDistribution = ArrayGenerator.forName(session.getDistribution());
+         if (!Arrays.asList(FRAME_RATES).contains(session.getFramesPerSecond())) throw new IllegalArgumentException("Unsupported frame rate: " + session.getFramesPerSecond());
+         if (session.getSortingSpeed() < 0 || session.getSortingSpeed() > 100) throw new IllegalArgumentException("Sorting speed must be between 0 and 100");
+         if (session.getStep() > 0) StepLog.checkSteps(sessionAlgorithm, session.getValues().length);
+ 
+         stopSort();
+         this.distribution = sessionDistribution;
+         this.seed = session.getSeed();
+         this.lastNumValues = session.getValues().length;
+         this.lastValueRange = session.getValueRange();
+         setArray(session.getValues().clone());
+         setAlgorithm(sessionAlgorithm);
+         setElementType(sessionElementType);
+         setFramePacing(session.getFramesPerSecond(), session.getStepsPerFrame());
+         setSortingSpeed(session.getSortingSpeed());
+         if (session.getStep() > 0) resumeAt(session.getStep());
+     }
+ 
+     /*
+      * resumeAt: Starts the sort PAUSED, then seeks to the given step once the recording has reached it (or has
+      * finished short of it) and shows the timeline controls, if there are any.
+      */
+     private void resumeAt(long step) {
+         startSort();
+         pauseSort();
+         StepLog sortLog = log;
+         tasks.fork(() -> {
+             try {
+                 while (!sortLog.awaitStep(step - 1, 10)) {
+                     if (sortLog.isFinished()) break;
+                 }
+             } catch (InterruptedException e) {
+                 return; // Reset before the step was recorded
+             }
+             SwingUtilities.invokeLater(() -> {
+                 if (log != sortLog || !state.get().isStopped()) return; // Reset or resumed meanwhile
+                 if (timelineSlider != null) showTimeline(true);
+                 requestSeek(step);
+             });
+         });
+     }
+ 
+     /*
+      * openSession: Reads and loads a saved session (see loadSession), then shows its settings in the controls and
+      * lays them out for WAITING or PAUSED. Reports a file that can't be opened in a dialog.
+      */
+     private void openSession(JFrame frame, Path file) {
+         try {
+             loadSession(Session.read(file));
+         } catch (IOException | IllegalArgumentException e) {
+             JOptionPane.showMessageDialog(frame, "Could not open the session: " + e.getMessage(), "Open Failed", JOptionPane.ERROR_MESSAGE);
+             return;
+         }
+         numValuesField.setText(String.valueOf(lastNumValues));
+         valueRangeField.setText(String.valueOf(lastValueRange));
+         distributionBox.setSelectedItem(distribution);
+         seedField.setText(String.valueOf(seed));
+         seedField.setToolTipText("Seed of the current values: " + seed);
+         algorithmBox.setSelectedItem(algorithm.getName());
+         algorithmBox.setEnabled(true);
+         elementTypeBox.setSelectedItem(elementType);
+         elementTypeBox.setEnabled(true);
+         sortingSpeedSlider.setValue(sortingSpeed);
+         frameRateBox.setSelectedItem(framesPerSecond);
+         stepsPerFrameSpinner.setValue(stepsPerFrame);
+ 
+         // The timeline is shown once the sort reaches the saved step.
+         boolean started = getState().isStarted();
+         showTimeline(false);
+         startButton.setText(started ? "Resume" : "Start");
+         startButton.setVisible(true);
+         resetButton.setText(started ? "Reset" : "Refresh");
+         resetButton.setVisible(true);
+         sortingSpeedSlider.setVisible(true);
+         frameRateBox.setVisible(true);
+         stepsPerFrameSpinner.setVisible(true);
+         sortingSpeedLabel.setVisible(!started);
+         frameRateLabel.setVisible(!started);
+         stepsPerFrameLabel.setVisible(!started);
+         numValuesField.setVisible(!started);
+         valueRangeField.setVisible(!started);
+         numValuesLabel.setVisible(!started);
+         valueRangeLabel.setVisible(!started);
+         algorithmBox.setVisible(!started);
+         algorithmLabel.setVisible(!started);
+         elementTypeBox.setVisible(!started);
+         elementTypeLabel.setVisible(!started);
+         distributionBox.setVisible(!started);
+         distributionLabel.setVisible(!started);
+         seedField.setVisible(!started);
+         seedLabel.setVisible(!started);
+     }
+ 
+     /*
+      * openStream: Sets the panel up to sort a stream (see setStream) described by the command line options, and shows
+      * its window and value range in the controls. Throws an IllegalArgumentException for anything invalid. Options:
+          * --stream FILE|-|generate -> numbers read from a text file, from standard input (-), or generated
+          * --window N               -> values sorted before the stream stops (default STREAM_WINDOW)
+          * --range N                -> generated values are picked from 1..N (default VALUE_RANGE)
+          * --rate N                 -> generated values per second, 0 for as fast as they are sorted (default STREAM_RATE)
+          * --seed N                 -> seed for the generated values (default: a random seed)
+          * --distribution NAME      -> distribution of the generated values (default Uniform)
+      */
+     private void openStream(String[] args) {
+         String source = null, streamDistribution = ArrayGenerator.UNIFORM;
+         int window = STREAM_WINDOW, range = VALUE_RANGE;
+         double rate = STREAM_RATE;
+         long streamSeed = ArrayGenerator.randomSeed();
+         for (int i = 0; i < args.length; i++) {
+             String option = args[i];
+             if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+             String value = args[++i];
+             switch (option) {
+                 case "--stream":       source = value; break;
+                 case "--window":       window = Integer.parseInt(value); break;
+                 case "--range":        range = Integer.parseInt(value); break;
+                 case "--rate":         rate = Double.parseDouble(value); break;
+                 case "--seed":         streamSeed = Long.parseLong(value); break;
+                 case "--distribution": streamDistribution = ArrayGenerator.forName(value); break;
+                 default: throw new IllegalArgumentException("Unknown option: " + option);
+             }
+         }
+         if (window < 1 || window > MAX_NUM_VALUES) throw new IllegalArgumentException("--window must be between 1 and " + MAX_NUM_VALUES);
+         if (range < 1 || range > MAX_VALUE_RANGE) throw new IllegalArgumentException("--range must be between 1 and " + MAX_VALUE_RANGE);
+         if (!(rate >= 0)) throw new IllegalArgumentException("--rate must not be negative");
+ 
+         if (source.equals("-"))
+             setStream(ValueStream.stdin(), window);
+         else if (source.equals("generate"))
+             setStream(ValueStream.generator(streamDistribution, window, range, streamSeed, rate), window);
+         else
+             setStream(ValueStream.file(Paths.get(source)), window);
+ 
+         // Keep the controls in step, so pressing Start streams instead of generating a new array.
+         this.distribution = streamDistribution;
+         this.seed = streamSeed;
+         this.lastNumValues = window;
+         this.lastValueRange = range;
+         numValuesField.setText(String.valueOf(window));
+         valueRangeField.setText(String.valueOf(range));
+         distributionBox.setSelectedItem(streamDistribution);
+         seedField.setToolTipText("Seed of the current values: " + streamSeed);
+         algorithmBox.setSelectedItem(algorithm.getName());
+         algorithmBox.setEnabled(false);
+         elementTypeBox.setSelectedItem(elementType);
+         elementTypeBox.setEnabled(false);
+     }
+ 
+     /*
+      * saveSession: Asks where to save the session and saves it, reporting a file that can't be written in a dialog.
+      */
+     private void saveSession(JFrame frame) {
+         JFileChooser chooser = new JFileChooser();
+         if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) return;
+         try {
+             saveSession(chooser.getSelectedFile().toPath());
+         } catch (IOException e) {
+             JOptionPane.showMessageDialog(frame, "Could not save the session: " + e.getMessage(), "Save Failed", JOptionPane.ERROR_MESSAGE);
+         }
+     }
+ 
+     /*
+      * stepTimeline: Moves the replay the given number of steps forward (or back, if negative) from where it is, or
+      * from where the seek still running will leave it.
+      */
+     private void stepTimeline(long steps) {
+         long position = seekTarget.get();
+         if (position == NO_SEEK) {
+             synchronized (pauseLock) {
+                 position = nextStep;
+             }
+         }
+         requestSeek(Math.max(0, position + steps));
+     }
+ 
+     /*
+      * showTimeline: Shows (while PAUSED or FINISHED) or hides the timeline controls.
+      */
+     private void showTimeline(boolean visible) {
+         timelineSlider.setVisible(visible);
+         stepBackButton.setVisible(visible);
+         stepForwardButton.setVisible(visible);
+         if (visible) updateTimeline();
+     }
+ 
+     /*
+      * updateTimeline: Moves the slider to the current step, rescaled to the steps recorded so far, and shows the
+      * Resume button only if the sort can still be resumed (seeking moves between PAUSED and FINISHED, and a sort
+      * whose recording failed can only be looked through).
+      */
+     private void updateTimeline() {
+         Timeline sortTimeline = timeline;
+         if (sortTimeline == null) return;
+         long position;
+         synchronized (pauseLock) {
+             position = nextStep;
+         }
+         timelineLength = sortTimeline.length();
+         updatingTimeline = true;
+         timelineSlider.setMaximum(toSlider(timelineLength));
+         timelineSlider.setValue(toSlider(position));
+         updatingTimeline = false;
+         StepLog sortLog = log;
+         startButton.setText("Resume");
+         startButton.setVisible(state.get() == SortState.PAUSED && sortLog != null && sortLog.getFailure() == null);
+     }
+ 
+     // Converts a step to a slider value (the slider only holds ints, so very long timelines are scaled down).
+     private int toSlider(long step) {
+         return timelineLength <= Integer.MAX_VALUE ? (int) step : (int) (step * ((double) Integer.MAX_VALUE / timelineLength));
+     }
+ 
+     // Converts a slider value back to a step.
+     private long fromSlider(int value) {
+         return timelineLength <= Integer.MAX_VALUE ? value : (long) (value * ((double) timelineLength / Integer.MAX_VALUE));
+     }
+ 
+     /*
+      * advance: Replays the next recorded step of the sort recorded into sortLog onto sortPlayer (called by the
+      * step clock). Returns NOT_READY if the replay has caught up with the recorder (or was paused mid-tick), which
+      * ends the tick, and DONE once the sort is FINISHED or has been reset, which stops the clock, or once it has
+      * replayed every step of a recording that failed (see recordingFailed).
+      */
+     private StepClock.Advance advance(StepLog sortLog, StepPlayer sortPlayer) {
+         // If the replay has caught up with the recorder, wait briefly for more steps instead of spinning.
+         if (log != sortLog) return StepClock.Advance.DONE; // Check for reset request
+         try {
+             if (!sortLog.awaitStep(nextStep, 1)) {
+                 if (!sortLog.isFinished()) return StepClock.Advance.NOT_READY;
+                 if (sortLog.getFailure() != null) recordingFailed(sortLog);
+                 return StepClock.Advance.DONE;
+             }
+         } catch (InterruptedException e) {
+             Thread.currentThread().interrupt();
+             return StepClock.Advance.DONE;
+         }
+ 
+         synchronized (pauseLock) {
+             if (log != sortLog) return StepClock.Advance.DONE;                       // Check for reset request
+             if (state.get() != SortState.RUNNING) return StepClock.Advance.NOT_READY; // Paused mid-tick: take no more steps
+ 
+             long step = sortLog.get(nextStep++);
+             sortPlayer.apply(step);
+             tickChanged = FrameExchange.widen(tickChanged, sortPlayer.lastChangedRange());
+             if (SortStep.opcode(step) != SortStep.FINISH) return StepClock.Advance.STEPPED;
+ 
+             // Once sorting is complete, move to the FINISHED state (even if it was paused during this very step).
+             SortState previous = state.getAndUpdate(current -> current.isStarted() ? SortState.FINISHED : current);
+             finished = previous.isStarted(); // The buttons are updated once the final frame is published
+         }
+         return StepClock.Advance.DONE;
+     }
+ 
+     /*
+      * recordingFailed: PAUSES a replay that has caught up with a recording that stopped with an error (e.g. a sort
+      * that runs out of room for its steps), so the steps recorded so far can still be looked through,
+      * and reports the error (in a dialog, or on the console if the panel has no controls). Called by the step clock,
+      * so the pause and the report run on the Event Dispatch Thread, like every other change of the controls.
+      */
+     private void recordingFailed(StepLog sortLog) {
+         String message = "The sort was stopped after " + sortLog.size() + " steps. " + sortLog.getFailure().getMessage();
+         SwingUtilities.invokeLater(() -> {
+             if (log != sortLog) return; // Reset meanwhile
+             pauseSort();
+             if (startButton == null) {
+                 System.err.println(message);
+                 return;
+             }
+             showTimeline(true);
+             JOptionPane.showMessageDialog(this, message, "Recording Stopped", JOptionPane.ERROR_MESSAGE);
+         });
+     }
+ 
+     /*
+      * publishFrame: Publishes the steps replayed during the last clock tick as one frame, then requests a
+      * repaint of only the strip that looks different (or leaves it for the render clock when frame-capped).
+      * Called by the step clock after each tick.
+      */
+     private void publishFrame(StepLog sortLog, StepPlayer sortPlayer, FrameExchange sortFrames) {
+         long changed;
+         boolean done;
+         synchronized (pauseLock) {
+             if (log != sortLog) return; // Reset
+             if (tickChanged == FrameExchange.NO_RANGE && state.get() == SortState.FINISHED) return; // Nothing new since the last frame
+             sortFrames.publish(sortPlayer, nextStep, sortPlayer.takeDirtyRange());
+             metrics.published(sortPlayer.getCounters(), nextStep, sortLog);
+             changed = tickChanged;
+             tickChanged = FrameExchange.NO_RANGE;
+             done = finished;
+             finished = false;
+         }
+         if (frameCapped)
+             pendingRepaint.accumulateAndGet(changed, FrameExchange::widen);
+         else
+             repaintIndices(changed);
+         if (!done) return;
+ 
+         // Draw the final frame and update the buttons to show the appropriate labels for the FINISHED state.
+         metrics.pause();
+         SwingUtilities.invokeLater(() -> {
+             if (log != sortLog) return; // Reset before the final frame was drawn
+             renderFrame();
+             if (renderClock != null) renderClock.stop();
+             if (finishListener != null) finishListener.run();
+             if (startButton == null) return; // No controls (e.g. a lane of a race)
+             startButton.setVisible(false);
+             resetButton.setText("Reset");
+             resetButton.setVisible(true);
+             showTimeline(true);
+         });
+     }
+ 
+     /*
+      * showFrame: Publishes the state of a player that is replayed outside the panel (by the batch exporter) as the
+      * next frame, and marks the bars in the changed (low << 32 | high) index range so the next paint renders them.
+      */
+     void showFrame(StepPlayer source, long position, long changed, StepLog sortLog) {
+         synchronized (pauseLock) {
+             frames.publish(source, position, source.takeDirtyRange());
+             metrics.published(source.getCounters(), position, sortLog);
+         }
+         repaintIndices(changed);
+     }
+ 
+     /*
+      * setFinishListener: Sets what to run (on the Event Dispatch Thread) once a sort has finished and its final frame is drawn.
+      */
+     void setFinishListener(Runnable listener) {
+         this.finishListener = listener;
+     }
+ 
+     /*
+      * renderFrame: Repaints everything published since the last frame (called by the render clock).
+      */
+     void renderFrame() {
+         repaintIndices(pendingRepaint.getAndSet(FrameExchange.NO_RANGE));
+         repaint(OVERLAY_BOUNDS);
+     }
+ 
+     /*
+      * barLayout: Returns the geometry of the bars for the panel's current size and number of values, working it out
+      * again only when either has changed since the last call (so once per resize or new array, not once per frame).
+      * Allocated space:
+          * between bars in each section
+          * between each wall and it's closest bar
+          * between the sorted array and the unsorted array
+          * between the current comparison and the surrounding array, to isolate the comparison for viewing
+      */
+     private BarLayout barLayout() {
+         BarLayout current = layout;
+         int width = getWidth(), height = getHeight(), length = array.length;
+         if (current == null || !current.matches(width, height, length)) {
+             layout = current = new BarLayout(width, height, length);
+         }
+         return current;
+     }
+ 
+     /*
+      * repaintIndices: Requests a repaint of only the strip of the panel where the bars for the packed
+      * (low << 32 | high) index range are drawn, instead of the whole panel.
+      */
+     private void repaintIndices(long range) {
+         int low = (int) (range >> 32), high = (int) range;
+         if (low > high) return; // Nothing visible changed.
+         long columns = barLayout().columns(low, high);
+         repaintColumns((int) (columns >> 32), (int) columns);
+     }
+ 
+     /*
+      * repaintColumns: Marks the bars between x = left and x = right (exclusive) as changed and requests a repaint of that strip.
+      */
+     private void repaintColumns(int left, int right) {
+         markDirty(left, right);
+         repaint(left, 0, right - left, getHeight());
+         traceRepaint(left, right);
+     }
+ 
+     /*
+      * repaintAll: Marks every bar as changed and requests a repaint of the whole panel.
+      */
+     private void repaintAll() {
+         markAllDirty();
+         repaint();
+         traceRepaint(0, getWidth());
+     }
+ 
+     // Records a repaint request for the flight recorder (see SortEvents).
+     private static void traceRepaint(int left, int right) {
+         SortEvents.Repaint event = new SortEvents.Repaint();
+         if (!event.isEnabled()) return;
+         event.left = left;
+         event.right = right;
+         event.commit();
+     }
+ 
+     // Marks the bars between x = left and x = right (exclusive) as needing to be rendered again on the next paint.
+     void markDirty(int left, int right) {
+         dirtyColumns.accumulateAndGet(((long) left << 32) | (right & 0xFFFFFFFFL), FrameExchange::widen);
+     }
+ 
+     // Marks every bar as needing to be rendered again on the next paint.
+     void markAllDirty() {
+         dirtyColumns.set(ALL_COLUMNS);
+     }
+ 
+     /*
+      * paintComponent: Custom painting method that draws the latest published frame as a series of bars, with the
+      * live counters on top, and reports how long the paint took to the metrics. Only the changed bars inside the clip
+      * (and the overlay) are rendered into the back buffer; the rest of the clip is copied from what is already there.
+      */
+     @Override
+     protected void paintComponent(Graphics g) {
+         SortEvents.Paint event = new SortEvents.Paint();
+         event.begin();
+         long paintStart = System.nanoTime();
+         clipBounds.setBounds(0, 0, getWidth(), getHeight());
+         Rectangle clip = g.getClipBounds(clipBounds); // Left as the whole panel if there is no clip
+ 
+         do {
+             Graphics2D buffer = validateBackBuffer();
+             renderChanges(buffer, clip);
+             g.drawImage(backBuffer, 0, 0, null);
+         } while (backBuffer instanceof VolatileImage && ((VolatileImage) backBuffer).contentsLost());
+ 
+         metrics.painted(paintedVersion, System.nanoTime() - paintStart);
+         if (event.shouldCommit()) {
+             event.version = paintedVersion;
+             event.clipWidth = clip.width;
+             event.commit();
+         }
+     }
+ 
+     /*
+      * renderChanges: Renders the parts of the clip that are out of date in the back buffer: the changed bars and the overlay.
+      */
+     private void renderChanges(Graphics2D buffer, Rectangle clip) {
+         long dirty = dirtyColumns.get();
+         int dirtyLeft = Math.max(clip.x, (int) (dirty >> 32)), dirtyRight = Math.min(clip.x + clip.width, (int) dirty);
+         boolean barsChanged = dirtyLeft < dirtyRight, overlayShown = clip.intersects(OVERLAY_BOUNDS);
+         if (!barsChanged && !overlayShown) return; // Nothing changed here -> just copy the back buffer.
+ 
+         // Changes since the last frame, used by the binned renderer to update only the columns that changed.
+         // The range is taken before the frame is acquired, so a publish in between is never missed.
+         FrameExchange exchange = frames;
+         long dirtyRange = exchange.takePaintRange();
+ 
+         // Latest published frame; it cannot change while it is being painted.
+         FrameState frame = exchange.acquire();
+         paintedVersion = frame.version;
+         if (barsChanged) {
+             renderBounds.setBounds(dirtyLeft, clip.y, dirtyRight - dirtyLeft, clip.height);
+             renderBars(buffer, frame, dirtyRange);
+             dirtyRange = FrameExchange.NO_RANGE; // Already applied to the binned columns
+ 
+             // Only clear the changes if all of them were rendered (a change marked since then keeps them dirty).
+             boolean allRendered = clip.y <= 0 && clip.y + clip.height >= getHeight()
+                     && clip.x <= Math.max(0, (int) (dirty >> 32)) && clip.x + clip.width >= Math.min(getWidth(), (int) dirty);
+             if (allRendered) dirtyColumns.compareAndSet(dirty, FrameExchange.NO_RANGE);
+         }
+         if (overlayShown) {
+             // The overlay text changes every frame, so the bars under it are always redrawn with it.
+             Rectangle2D.intersect(clip, OVERLAY_BOUNDS, renderBounds);
+             renderBars(buffer, frame, dirtyRange);
+             paintOverlay(buffer, frame);
+         }
+     }
+ 
+     // Clears renderBounds in the back buffer and draws the bars inside it.
+     private void renderBars(Graphics2D buffer, FrameState frame, long dirtyRange) {
+         buffer.setClip(renderBounds.x, renderBounds.y, renderBounds.width, renderBounds.height);
+         buffer.setColor(getBackground());
+         buffer.fillRect(renderBounds.x, renderBounds.y, renderBounds.width, renderBounds.height);
+         paintBars(buffer, frame, dirtyRange);
+     }
+ 
+     /*
+      * validateBackBuffer: Returns the graphics of the back buffer, (re)creating the buffer if the panel was resized or
+      * the accelerated image can no longer be used, and marking everything as changed whenever its contents were lost.
+      */
+     private Graphics2D validateBackBuffer() {
+         int width = Math.max(1, getWidth()), height = Math.max(1, getHeight());
+         if (backBuffer == null || backBuffer.getWidth(null) != width || backBuffer.getHeight(null) != height) {
+             if (backGraphics != null) backGraphics.dispose();
+             VolatileImage accelerated = isDisplayable() ? createVolatileImage(width, height) : null;
+             backBuffer = accelerated != null ? accelerated : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+             backGraphics = (Graphics2D) backBuffer.getGraphics();
+             dirtyColumns.set(ALL_COLUMNS);
+         } else if (backBuffer instanceof VolatileImage) {
+             int status = ((VolatileImage) backBuffer).validate(getGraphicsConfiguration());
+             if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                 backBuffer = null;
+                 return validateBackBuffer();
+             }
+             if (status == VolatileImage.IMAGE_RESTORED) {
+                 backGraphics.dispose();
+                 backGraphics = (Graphics2D) backBuffer.getGraphics();
+                 dirtyColumns.set(ALL_COLUMNS);
+             }
+         }
+         return backGraphics;
+     }
+ 
+     /*
+      * paintBars: Draws the frame's array as a series of bars (only the values that have arrived, for a stream).
+      * The color and position of each bar changes depending on its state in the sorting process.
+      * Only the bars that intersect the clip (the region being repainted) are drawn.
+      */
+     private void paintBars(Graphics g, FrameState frame, long dirtyRange) {
+         int[] values = frame.getArray();
+         int length = frame.getLength(), maxValue = frame.getMaxValue();
+         int keyIndex = frame.getKeyIndex(), currentIndex = frame.getCurrentIndex();
+         int comparisonIndex = frame.getComparisonIndex(), sortedIndex = frame.getSortedIndex();
+         int rangeLow = frame.getRangeLow(), rangeHigh = frame.getRangeHigh();
+         int probeIndex = frame.getProbeIndex(), movedLow = frame.getMovedLow(), movedHigh = frame.getMovedHigh();
+         boolean keyLayout = algorithm.usesKeyLayout();
+         BarLayout bars = barLayout();
+         int availableHeight = bars.getAvailableHeight(); // Total height available for drawing bars.
+         int baseline = bars.getBaseline();
+ 
+         // Too many values for a bar each -> draw one column per pixel instead (cost depends on width, not on the number of values).
+         if (bars.isBinned()) {
+             binnedRenderer.paint(g, frame, dirtyRange, maxValue, bars.getBinnedLeft(), bars.getBinnedWidth(), baseline, availableHeight);
+             return;
+         }
+ 
+         // Bar width is 3/4 of space available for each bar, leaving a 1/4 of the space for padding between bars.
+         double barSpace = bars.getBarSpace(), barWidth = bars.getBarWidth();
+         int comparisonPadding = bars.getComparisonPadding(), sortedPadding = bars.getSortedPadding();
+ 
+         // Set font size based on bar width for drawing numbers (the labels are only re-rendered when its size changes).
+         int fontSize = Math.max(8, (int) barWidth / 2);
+         labels.update(this, fontSize, maxValue);
+ 
+         double scalingFactor = (double) availableHeight / maxValue;
+ 
+         // Only label the bars when the widest label fits in the space for one bar, otherwise the labels just overlap.
+         boolean drawLabels = labels.getWidest() <= barSpace;
+ 
+         // Bars only ever move right (by up to the comparison and sorted padding), so the clip maps to a range of indices.
+         barBounds.setBounds(0, 0, getWidth(), getHeight());
+         Rectangle clip = g.getClipBounds(barBounds); // Left as the whole panel if there is no clip
+         int first = bars.firstIndex(clip.x), last = Math.min(length - 1, bars.lastIndex(clip.x + clip.width));
+ 
+         // Bars that don't fall on whole pixels are drawn as anti-aliased shapes, so they keep their exact spacing.
+         Graphics2D g2 = (Graphics2D) g;
+         boolean whole = bars.isWhole();
+         Object antialiasing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+         if (!whole) g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+         
+         // Loop through the visible part of the array and draw each bar.
+         for (int i = first; i <= last; i++) {
+             double x = bars.barLeft(i);
+             int barHeight = (int) (values[i] * scalingFactor);
+             int y = baseline - barHeight;
+ 
+             /*
+              * Set color and adjust x-position based on the state of the element.
+                 *        RED -> Current element being compared to the current key element
+ 
+                 *       BLUE -> Current key element
+ 
+                 *     ORANGE -> Element PROBED by a binary search in the last step
+ 
+                 *       CYAN -> Block MOVED up one place by a block move in the last step
+ 
+                 *      GREEN -> Inside the range the algorithm is working on (merge, partition, heap)
+ 
+                 * DARK_GREEN -> SORTED elements (ALREADY been a key)
+                 *               Not compared to the current key yet
+                 *               Could be greater than current key but not sure yet
+ 
+                 *      GREEN -> SORTED elements (ALREADY been a key)
+                 *               Already Compared to the current key
+                 *               Already declared greater than current key
+ 
+                 *      BLACK -> UNSORTED elements (Has NOT BEEN a key yet)
+              * The x-offsets only apply to the key layout (insertion sort), where the comparison is always the
+              * sorted boundary; other algorithms are drawn as one flat row, centered in the same space.
+              */
+             int offset;
+             if (i == comparisonIndex) {
+                 offset = comparisonPadding / 2;
+                 g.setColor(Color.RED);
+             } else if (i == currentIndex) {
+                 offset = comparisonPadding / 2;
+                 g.setColor(Color.BLUE);
+             } else if (i == probeIndex) {
+                 offset = comparisonPadding / 2;
+                 g.setColor(Color.ORANGE);
+             } else if (i >= movedLow && i <= movedHigh) {
+                 offset = comparisonPadding / 2 + sortedPadding;
+                 g.setColor(Color.CYAN);
+             } else if (i >= rangeLow && i <= rangeHigh) {
+                 offset = comparisonPadding / 2 + sortedPadding;
+                 g.setColor(Color.GREEN);
+             } else if (i < sortedIndex) {
+                 offset = 0;
+                 g.setColor(DARK_GREEN);
+             } else if (i <= keyIndex) {
+                 offset = comparisonPadding / 2 + sortedPadding;
+                 g.setColor(Color.GREEN);
+             } else {
+                 offset = comparisonPadding + sortedPadding;
+                 g.setColor(Color.BLACK);
+             }
+             x += keyLayout ? offset : (comparisonPadding + sortedPadding) / 2;
+ 
+             // Draw the filled rectangle representing the array element.
+             if (whole) {
+                 g.fillRect((int) x, y, (int) barWidth, barHeight);
+             } else {
+                 bar.setRect(x, y, barWidth, barHeight);
+                 g2.fill(bar);
+             }
+ 
+             // Draw the numeric value on top of the bar.
+             if (!drawLabels) continue;
+             labels.draw(g, values[i], (int) Math.round(x), (int) Math.round(barWidth), y - 5);
+         }
+         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+     }
+ 
+     /*
+      * paintOverlay: Draws the live counters in the padding above the bars (only if the clip reaches them):
+          * line 1 -> cost of the steps shown so far (from the frame, so it always matches the bars), for a stream how
+          *           many values have arrived out of the window, the element type (unless int), and once a sort of
+          *           keyed records has finished, whether it kept equal keys in their original order (was stable)
+          * line 2 -> steps replayed vs recorded, running time and replay rate (is the sorter keeping up?)
+          * line 3 -> painted frames per second, dropped frames and paint time (is the painter keeping up?)
+      */
+     private void paintOverlay(Graphics g, FrameState frame) {
+         SortCounters counters = frame.getCounters();
+         g.setFont(OVERLAY_FONT);
+         g.setColor(Color.DARK_GRAY);
+         int x = OVERLAY_BOUNDS.x, y = OVERLAY_BOUNDS.y + OVERLAY_LINE_HEIGHT;
+         overlayText.clear().append("Comparisons: ").append(counters.getComparisons()).append("   Shifts: ").append(counters.getShifts())
+                 .append("   Swaps: ").append(counters.getSwaps()).append("   Writes: ").append(counters.getWrites());
+         if (streamSource != null) overlayText.append("   Arrived: ").append(frame.getLength()).append(" / ").append(frame.getArray().length);
+         if (!elementType.equals(SortElements.INT)) overlayText.append("   Elements: ").append(elementType);
+         int unstablePairs = frame.getUnstablePairs();
+         if (unstablePairs == 0) overlayText.append("   Stable: yes");
+         else if (unstablePairs > 0) overlayText.append("   Stable: no (").append(unstablePairs).append(" equal keys out of order)");
+         overlayText.draw(g, x, y);
+         overlayText.clear().append("Steps: ").append(frame.getPosition()).append(" / ").append(metrics.getStepsRecorded())
+                 .append(metrics.isRecordingFinished() ? "" : " (recording)").append("   Elapsed: ").append(metrics.getElapsedMillis() / 1000.0, 1)
+                 .append(" s   Steps/s: ").append(metrics.getStepsPerSecond(), 0).draw(g, x, y + OVERLAY_LINE_HEIGHT);
+         overlayText.clear().append("Frames/s: ").append(metrics.getFramesPerSecond(), 0).append("   Dropped: ").append(metrics.getFramesDropped())
+                 .append("   Paint: ").append(metrics.getAveragePaintMillis(), 2).append(" ms").draw(g, x, y + 2 * OVERLAY_LINE_HEIGHT);
+     }
+ 
+     // Live counters of the current sort, shown in the overlay (and through JMX when enabled).
+     public SortMetrics getMetrics() {
+         return metrics;
+     }
+ 
+     /*
+      * main: The entry point of the program. Sets up the JFrame, initializes the visualizer,
+      * creates the control panel with buttons and sliders, and assigns action listeners to handle
+      * user interactions.
+      */
+     public static void main(String[] args) {
+         // Trace where the time goes as a flight recording with -Dvisualizer.trace=FILE.jfr, summarized on exit (see SortEvents).
+         String trace = System.getProperty("visualizer.trace");
+         if (trace != null) {
+             try {
+                 SortEvents.startTrace(Paths.get(trace));
+             } catch (IOException e) {
+                 System.err.println("Could not start the trace: " + e.getMessage());
+             }
+         }
+ 
+         // Race several algorithms side by side on the same values (see RaceVisualizer).
+         if (args.length > 0 && args[0].equals("--race")) {
+             RaceVisualizer.main(Arrays.copyOfRange(args, 1, args.length));
+             return;
+         }
+ 
+         // Open a saved session in the window with --session FILE (see Session).
+         Path sessionFile = args.length == 2 && args[0].equals("--session") ? Paths.get(args[1]) : null;
+ 
+         // Sort values as they arrive with --stream FILE|-|generate [options] (see openStream).
+         boolean streaming = args.length > 0 && args[0].equals("--stream");
+ 
+         // With other arguments, export the sort as images without opening a window (see BatchExporter).
+         if (args.length > 0 && sessionFile == null && !streaming) {
+             BatchExporter.main(args);
+             return;
+         }
+ 
+         // Create the main application window.
+         JFrame frame = new JFrame("Insertion Sort Visualizer");
+ 
+         // Instantiate the visualizer.
+         InsertionSortVisualizer visualizer = new InsertionSortVisualizer();
+ 
+         // Expose the live counters through JMX when started with -Dvisualizer.jmx=true.
+         if (Boolean.getBoolean("visualizer.jmx")) visualizer.getMetrics().registerMBean();
+         
+         // Initialize control components.
+         visualizer.startButton = new JButton("Start");
+         visualizer.resetButton = new JButton("Refresh");
+         visualizer.saveButton = new JButton("Save");
+         visualizer.openButton = new JButton("Open");
+         visualizer.numValuesField = new JTextField(String.valueOf(NUM_VALUES), 7);
+         visualizer.valueRangeField = new JTextField(String.valueOf(VALUE_RANGE), 2);
+         visualizer.sortingSpeedSlider = new JSlider(0, 100, SORTING_SPEED);
+         visualizer.numValuesLabel = new JLabel("Number of Values:");
+         visualizer.valueRangeLabel = new JLabel("Value Range:");
+         visualizer.sortingSpeedLabel = new JLabel("Sorting Speed:");
+         visualizer.algorithmBox = new JComboBox<>(SortAlgorithms.names());
+         visualizer.algorithmLabel = new JLabel("Algorithm:");
+         visualizer.elementTypeBox = new JComboBox<>(SortElements.names());
+         visualizer.elementTypeLabel = new JLabel("Elements:");
+         visualizer.distributionBox = new JComboBox<>(ArrayGenerator.names());
+         visualizer.distributionLabel = new JLabel("Distribution:");
+         visualizer.seedField = new JTextField(10);
+         visualizer.seedField.setToolTipText("Seed of the current values: " + visualizer.getSeed());
+         visualizer.seedLabel = new JLabel("Seed:");
+         visualizer.frameRateBox = new JComboBox<>(FRAME_RATES);
+         visualizer.frameRateBox.setSelectedItem(DEFAULT_FRAME_RATE);
+         visualizer.frameRateLabel = new JLabel("FPS:");
+         visualizer.stepsPerFrameSpinner = new JSpinner(new SpinnerNumberModel(DEFAULT_STEPS_PER_FRAME, 1, MAX_STEPS_PER_FRAME, 100));
+         visualizer.stepsPerFrameLabel = new JLabel("Steps/Frame:");
+         visualizer.stepBackButton = new JButton("< Step");
+         visualizer.stepForwardButton = new JButton("Step >");
+         visualizer.timelineSlider = new JSlider(0, 0, 0);
+         visualizer.timelineSlider.setPreferredSize(new Dimension(300, 25));
+         visualizer.showTimeline(false);
+         Dimension buttonSize = new Dimension(100, 25);
+         visualizer.startButton.setPreferredSize(buttonSize);
+         visualizer.resetButton.setPreferredSize(buttonSize);
+         visualizer.numValuesField.setPreferredSize(buttonSize);
+         visualizer.valueRangeField.setPreferredSize(buttonSize);
+         
+         /*
+          * Define the action listener for button events.
+          * The listener handles the behavior of the buttons based on the current state of the program.
+          * The program can be in one of four states: WAITING, RUNNING, PAUSED, or FINISHED.
+          * The behavior/visibility of the buttons/input fields change based on the current state:
+              * WAITING  -> The program is waiting for the user to start the sorting process.
+              *                  - START the sorting process, in turn refreshing the array with the new parameters.
+              *                  - REFRESH the array with the new parameters before starting the sorting process.
+              *                  - change the number of values, value range, distribution, seed, and sorting speed.
+              * RUNNING  -> The program is currently sorting the array.
+              *                  - PAUSE the sorting process.
+              * PAUSED   -> The program is paused during the sorting process.
+              *                  - RESUME the sorting process.
+              *                  - RESET the sorting process and restore the original settings.
+              *                  - change the sorting speed (and the frame rate and steps per frame used at the fastest speed).
+              *                  - SEEK to any recorded step, or step back/forward one step at a time.
+              * FINISHED -> The program has finished sorting the array.
+              *                  - RESET the sorting process and restore the original settings.
+              *                  - SEEK back through the sort (which makes it PAUSED again).
+          */
+         ActionListener buttonListener = e -> {
+             JButton clickedButton = (JButton) e.getSource();
+             
+             // Handle Start button clicks.
+             if (clickedButton == visualizer.startButton) {
+                 SortState state = visualizer.getState();
+                 if (state == SortState.FINISHED) return; // Finished just before the click: the buttons are about to switch to FINISHED.
+                 if (state.isStarted()) {
+                     if (state == SortState.PAUSED) {
+                         // If the program is paused, resume sorting. (Transition from PAUSED -> RUNNING)
+                         visualizer.startButton.setText("Pause");
+                         visualizer.resetButton.setVisible(false);
+                         visualizer.sortingSpeedSlider.setVisible(false);
+                         visualizer.frameRateBox.setVisible(false);
+                         visualizer.stepsPerFrameSpinner.setVisible(false);
+                         visualizer.setFramePacing((Integer) visualizer.frameRateBox.getSelectedItem(), (Integer) visualizer.stepsPerFrameSpinner.getValue());
+                         visualizer.setSortingSpeed(visualizer.sortingSpeedSlider.getValue());
+                         visualizer.showTimeline(false);
+                         visualizer.resumeSort();
+                     } else {
+                         // If the program is running, pause the sorting process. (Transition from RUNNING -> PAUSED)
+                         visualizer.pauseSort();
+                         visualizer.startButton.setText("Resume");
+                         visualizer.resetButton.setText("Reset");
+                         visualizer.resetButton.setVisible(true);
+                         visualizer.sortingSpeedSlider.setVisible(true);
+                         visualizer.frameRateBox.setVisible(true);
+                         visualizer.stepsPerFrameSpinner.setVisible(true);
+                         visualizer.showTimeline(true);
+                     }
+                 } else {
+                     // If the program hasn't started yet, initialize the sort with provided parameters. (Transition from WAITING -> RUNNING)
+                     try {
+                         int numValues = Integer.parseInt(visualizer.numValuesField.getText());
+                         if(numValues > MAX_NUM_VALUES)
+                             numValues = MAX_NUM_VALUES; // Limit the maximum number of values.
+                         int valueRange = Integer.parseInt(visualizer.valueRangeField.getText());
+                         if(valueRange > MAX_VALUE_RANGE)
+                             valueRange = MAX_VALUE_RANGE; // Limit the maximum range.
+                         int sortingSpeed = visualizer.sortingSpeedSlider.getValue();
+                         String distribution = (String) visualizer.distributionBox.getSelectedItem();
+                         String seedText = visualizer.seedField.getText().trim();
+                         // If the number of values, range, distribution or typed seed has changed, update the array.
+                         if(numValues != visualizer.lastNumValues || valueRange != visualizer.lastValueRange
+                                 || !distribution.equals(visualizer.getDistribution())
+                                 || (!seedText.isEmpty() && Long.parseLong(seedText) != visualizer.getSeed())) {
+                             visualizer.lastNumValues = numValues;
+                             visualizer.lastValueRange = valueRange;
+                             visualizer.updateArray(numValues, valueRange, sortingSpeed, distribution, visualizer.readSeed());
+                         }
+                         else {
+                             // Otherwise, just update the sorting speed.
+                             visualizer.setSortingSpeed(sortingSpeed);
+                         }
+                     } catch (NumberFormatException ex) {
+                         // Show error message if the user input is invalid.
+                         JOptionPane.showMessageDialog(frame, "Please enter valid numbers for the values, range and seed.", "Invalid Input", JOptionPane.ERROR_MESSAGE);
+                     }
+                     // Start the sorting (recording and replay run off the Event Dispatch Thread), unless it is too long to record.
+                     visualizer.setFramePacing((Integer) visualizer.frameRateBox.getSelectedItem(), (Integer) visualizer.stepsPerFrameSpinner.getValue());
+                     try {
+                         visualizer.startSort();
+                     } catch (IllegalArgumentException ex) {
+                         JOptionPane.showMessageDialog(frame, ex.getMessage(), "Sort Too Long", JOptionPane.ERROR_MESSAGE);
+                         return;
+                     }
+                     visualizer.startButton.setText("Pause");
+                     visualizer.resetButton.setVisible(false);
+                     visualizer.numValuesField.setVisible(false);
+                     visualizer.valueRangeField.setVisible(false);
+                     visualizer.sortingSpeedSlider.setVisible(false);
+                     visualizer.frameRateBox.setVisible(false);
+                     visualizer.stepsPerFrameSpinner.setVisible(false);
+                     visualizer.numValuesLabel.setVisible(false);
+                     visualizer.valueRangeLabel.setVisible(false);
+                     visualizer.sortingSpeedLabel.setVisible(false);
+                     visualizer.frameRateLabel.setVisible(false);
+                     visualizer.stepsPerFrameLabel.setVisible(false);
+                     visualizer.algorithmBox.setVisible(false);
+                     visualizer.algorithmLabel.setVisible(false);
+                     visualizer.elementTypeBox.setVisible(false);
+                     visualizer.elementTypeLabel.setVisible(false);
+                     visualizer.distributionBox.setVisible(false);
+                     visualizer.distributionLabel.setVisible(false);
+                     visualizer.seedField.setVisible(false);
+                     visualizer.seedLabel.setVisible(false);
+                 }
+             } 
+             // Handle Reset button clicks.
+             else if (clickedButton == visualizer.resetButton) {
+                 if (visualizer.getState() == SortState.WAITING) {
+                     // If sorting hasn't started, refresh the array with new parameters. (Stay in WAITING state but update parameters)
+                     try {
+                         int numValues = Integer.parseInt(visualizer.numValuesField.getText());
+                         if(numValues > MAX_NUM_VALUES)
+                             numValues = MAX_NUM_VALUES;   // Limit the maximum number of values.
+                         int valueRange = Integer.parseInt(visualizer.valueRangeField.getText());
+                         if(valueRange > MAX_VALUE_RANGE)
+                             valueRange = MAX_VALUE_RANGE; // Limit the maximum range.
+                         int sortingSpeed = visualizer.sortingSpeedSlider.getValue();
+                         visualizer.lastNumValues = numValues;
+                         visualizer.lastValueRange = valueRange;
+                         visualizer.updateArray(numValues, valueRange, sortingSpeed, (String) visualizer.distributionBox.getSelectedItem(), visualizer.readSeed());
+                     } catch (NumberFormatException ex) {
+                         JOptionPane.showMessageDialog(frame, "Please enter valid numbers for the values, range and seed.", "Invalid Input", JOptionPane.ERROR_MESSAGE);
+                     }
+                 } else {
+                     // If sorting is paused or finished, reset the program and restore original settings. (Transition from PAUSED/FINISHED -> WAITING)
+                     visualizer.stopSort();
+                     visualizer.showTimeline(false);
+                     visualizer.startButton.setText("Start");
+                     visualizer.startButton.setVisible(true);
+                     visualizer.resetButton.setText("Refresh");
+                     visualizer.numValuesField.setVisible(true);
+                     visualizer.valueRangeField.setVisible(true);
+                     visualizer.sortingSpeedSlider.setVisible(true);
+                     visualizer.frameRateBox.setVisible(true);
+                     visualizer.stepsPerFrameSpinner.setVisible(true);
+                     visualizer.numValuesLabel.setVisible(true);
+                     visualizer.valueRangeLabel.setVisible(true);
+                     visualizer.sortingSpeedLabel.setVisible(true);
+                     visualizer.frameRateLabel.setVisible(true);
+                     visualizer.stepsPerFrameLabel.setVisible(true);
+                     visualizer.algorithmBox.setVisible(true);
+                     visualizer.algorithmLabel.setVisible(true);
+                     visualizer.elementTypeBox.setVisible(true);
+                     visualizer.elementTypeLabel.setVisible(true);
+                     visualizer.distributionBox.setVisible(true);
+                     visualizer.distributionLabel.setVisible(true);
+                     visualizer.seedField.setVisible(true);
+                     visualizer.seedLabel.setVisible(true);
+                 }
+             }
+         };
+         // Attach the action listener to the buttons.
+         visualizer.startButton.addActionListener(buttonListener);
+         visualizer.resetButton.addActionListener(buttonListener);
+ 
+         // Seek through the recorded steps with the timeline controls (they are only shown while paused or finished).
+         visualizer.timelineSlider.addChangeListener(e -> {
+             if (visualizer.updatingTimeline) return;
+             visualizer.requestSeek(visualizer.fromSlider(visualizer.timelineSlider.getValue()));
+         });
+         visualizer.stepBackButton.addActionListener(e -> visualizer.stepTimeline(-1));
+         visualizer.stepForwardButton.addActionListener(e -> visualizer.stepTimeline(1));
+ 
+         // Save the session to a file at any time, or open a saved one (which resets the current sort).
+         visualizer.saveButton.addActionListener(e -> visualizer.saveSession(frame));
+         visualizer.openButton.addActionListener(e -> {
+             JFileChooser chooser = new JFileChooser();
+             if (chooser.showOpenDialog(frame) == JFileChooser.APPROVE_OPTION) visualizer.openSession(frame, chooser.getSelectedFile().toPath());
+         });
+ 
+         // Switch algorithms and element types from the selectors (they are hidden while sorting).
+         visualizer.algorithmBox.addActionListener(e ->
+             visualizer.setAlgorithm(SortAlgorithms.forName((String) visualizer.algorithmBox.getSelectedItem())));
+         visualizer.elementTypeBox.addActionListener(e -> visualizer.setElementType((String) visualizer.elementTypeBox.getSelectedItem()));
+         
+         // Create the left panel for start/reset buttons and the sorting speed slider.
+         JPanel leftPanel = new JPanel();
+         leftPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 10, 0));
+         leftPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+         leftPanel.add(visualizer.startButton);
+         leftPanel.add(visualizer.resetButton);
+         leftPanel.add(visualizer.saveButton);
+         leftPanel.add(visualizer.openButton);
+         leftPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+         leftPanel.add(visualizer.sortingSpeedLabel);
+         leftPanel.add(visualizer.sortingSpeedSlider);
+         leftPanel.add(visualizer.frameRateLabel);
+         leftPanel.add(visualizer.frameRateBox);
+         leftPanel.add(visualizer.stepsPerFrameLabel);
+         leftPanel.add(visualizer.stepsPerFrameSpinner);
+         
+         // Create the right panel for number of values and value range inputs.
+         JPanel rightPanel = new JPanel();
+         rightPanel.setLayout(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+         rightPanel.add(visualizer.algorithmLabel);
+         rightPanel.add(visualizer.algorithmBox);
+         rightPanel.add(visualizer.elementTypeLabel);
+         rightPanel.add(visualizer.elementTypeBox);
+         rightPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+         rightPanel.add(visualizer.numValuesLabel);
+         rightPanel.add(visualizer.numValuesField);
+         rightPanel.add(visualizer.valueRangeLabel);
+         rightPanel.add(visualizer.valueRangeField);
+         rightPanel.add(visualizer.distributionLabel);
+         rightPanel.add(visualizer.distributionBox);
+         rightPanel.add(visualizer.seedLabel);
+         rightPanel.add(visualizer.seedField);
+         rightPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+         
+         // Create the center panel for the timeline controls.
+         JPanel timelinePanel = new JPanel();
+         timelinePanel.setLayout(new FlowLayout(FlowLayout.CENTER, 10, 0));
+         timelinePanel.add(visualizer.stepBackButton);
+         timelinePanel.add(visualizer.timelineSlider);
+         timelinePanel.add(visualizer.stepForwardButton);
+         
+         // Combine the panels into a control panel.
+         JPanel controlPanel = new JPanel(new BorderLayout());
+         controlPanel.setPreferredSize(new Dimension(1600, 40));
+         controlPanel.add(leftPanel, BorderLayout.WEST);
+         controlPanel.add(timelinePanel, BorderLayout.CENTER);
+         controlPanel.add(rightPanel, BorderLayout.EAST);
+         
+         // Set up the main frame layout.
+         frame.setLayout(new BorderLayout());
+         frame.add(controlPanel, BorderLayout.SOUTH);
+         frame.add(visualizer, BorderLayout.CENTER);
+         int windowWidth = 1600;
+         int windowHeight = 800;
+         frame.setSize(windowWidth, windowHeight);
+         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+         frame.setLocation(50, 100);
+         if (streaming) {
+             try {
+                 visualizer.openStream(args);
+             } catch (IllegalArgumentException e) {
+                 System.err.println(e.getMessage());
+                 System.err.println("Usage: --stream FILE|-|generate [--window N] [--range N] [--rate N] [--seed N] [--distribution NAME]");
+                 System.exit(2);
+             }
+         }
+         frame.setVisible(true);
+         if (sessionFile != null) visualizer.openSession(frame, sessionFile);
+     }
+ }
+ 
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * LabelCache.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.*;
+ import java.awt.image.BufferedImage;
+ import java.util.Arrays;
+ 
+ /*
+  * LabelCache keeps pre-rendered images of the bar labels in the current label font, so drawing a label
+  * is a single image copy instead of building a String, measuring it and laying out its glyphs on every
+  * frame. Labels are only drawn while they fit over their bars (a few hundred bars at most), so the cache
+  * holds the labels of the values actually drawn rather than one slot per possible value: a small open
+  * addressing table keyed by the value itself (no boxing), emptied when it fills up. Images are rendered
+  * the first time each value is drawn and kept until the font size changes.
+  */
+ public class LabelCache {
+ 
+     // Slots in the table (a power of two); it is emptied once CAPACITY * 3 / 4 labels are cached.
+     private static final int CAPACITY = 1024, MASK = CAPACITY - 1, MAX_LABELS = CAPACITY * 3 / 4;
+ 
+     // Marks an empty slot (values are never negative).
+     private static final int EMPTY = -1;
+ 
+     /*
+      * Current cache:
+         * font     -> font the labels are rendered in
+         * metrics  -> metrics of font
+         * maxValue -> largest value with a label
+         * widest   -> width of the widest label (the label for the largest value)
+         * values   -> value whose label each slot holds, or EMPTY
+         * images   -> rendered label in each slot
+         * count    -> number of labels cached
+      */
+     private Font font;
+     private FontMetrics metrics;
+     private int maxValue = -1, widest;
+     private final int[] values = new int[CAPACITY];
+     private final BufferedImage[] images = new BufferedImage[CAPACITY];
+     private int count;
+ 
+     public LabelCache() {
+         Arrays.fill(values, EMPTY);
+     }
+ 
+     /*
+      * update: Makes sure the cache holds labels in the given font size for values up to maxValue. The labels
+      * are only rendered again if the font size changed; a new largest value just changes the widest label.
+      */
+     public void update(Component component, int fontSize, int maxValue) {
+         if (font == null || font.getSize() != fontSize) {
+             font = new Font("Arial", Font.BOLD, fontSize);
+             metrics = component.getFontMetrics(font);
+             clear();
+             this.maxValue = -1;
+         }
+         if (this.maxValue == maxValue) return;
+         this.maxValue = maxValue;
+         widest = metrics.stringWidth(String.valueOf(maxValue));
+     }
+ 
+     // Forgets every rendered label (e.g. when the array changes).
+     public void invalidate() {
+         font = null;
+     }
+ 
+     // Width of the widest label.
+     public int getWidest() {
+         return widest;
+     }
+ 
+     /*
+      * draw: Draws the label for value centered over the span left..left + width, with its text baseline at baseline.
+      */
+     public void draw(Graphics g, int value, int left, int width, int baseline) {
+         if (value < 0 || value > maxValue) return; // Only values 0..maxValue have labels
+         BufferedImage image = get(value);
+         g.drawImage(image, left + (width - image.getWidth()) / 2, baseline - metrics.getAscent(), null);
+     }
+ 
+     // Returns the label for value, rendering and caching it if it isn't cached yet.
+     private BufferedImage get(int value) {
+         int slot = slot(value);
+         if (values[slot] == value) return images[slot];
+         if (count == MAX_LABELS) {
+             clear();
+             slot = slot(value);
+         }
+         values[slot] = value;
+         count++;
+         return images[slot] = render(value);
+     }
+ 
+     // Finds the slot holding value, or the empty slot where it belongs (linear probing from its hash).
+     private int slot(int value) {
+         int slot = (value * 0x9E3779B9) >>> 22 & MASK;
+         while (values[slot] != value && values[slot] != EMPTY) {
+             slot = (slot + 1) & MASK;
+         }
+         return slot;
+     }
+ 
+     // Empties the table.
+     private void clear() {
+         Arrays.fill(values, EMPTY);
+         Arrays.fill(images, null);
+         count = 0;
+     }
+ 
+     // Renders a single label in black on a transparent background.
+     private BufferedImage render(int value) {
+         String text = String.valueOf(value);
+         BufferedImage image = new BufferedImage(Math.max(1, metrics.stringWidth(text)), metrics.getAscent() + metrics.getDescent(), BufferedImage.TYPE_INT_ARGB);
+         Graphics2D g = image.createGraphics();
+         g.setFont(font);
+         g.setColor(Color.BLACK);
+         g.drawString(text, 0, metrics.getAscent());
+         g.dispose();
+         return image;
+     }
+ }
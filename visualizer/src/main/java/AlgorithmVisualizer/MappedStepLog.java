@@ -0,0 +1,196 @@
+/*
+ * MappedStepLog.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.IOException;
+ import java.io.UncheckedIOException;
+ import java.nio.ByteOrder;
+ import java.nio.LongBuffer;
+ import java.nio.MappedByteBuffer;
+ import java.nio.channels.ClosedChannelException;
+ import java.nio.channels.FileChannel;
+ import java.nio.file.FileStore;
+ import java.nio.file.Files;
+ import java.nio.file.Path;
+ import java.nio.file.StandardOpenOption;
+ import java.util.concurrent.CancellationException;
+ 
+ /*
+  * MappedStepLog stores the steps in a memory-mapped file instead of on the heap, so a recording can be
+  * far larger than the heap (insertion sort on 100,000 values takes billions of steps), limited only by the
+  * disk it is recorded to. The operating system pages the file in and out as the replay moves through it,
+  * and steps are read straight from the mapping without being copied.
+  * The file is a small header followed by one fixed-size record per step:
+      * magic -> 8 bytes, MAGIC (marks the file as a step log)
+      * size  -> 8 bytes, number of steps, or -1 while the log is still being recorded
+      * steps -> 8 bytes per step, the packed SortStep value (little-endian)
+  * The file is mapped in segments of 2^23 steps (64 MB) as the recording reaches them, and cut down to the
+  * steps actually recorded when the log finishes. A write to a mapped page the disk has no room for would
+  * crash the JVM rather than fail, so a segment is only mapped while the disk has room for all of it and
+  * MIN_FREE_BYTES to spare; otherwise the recording stops with an error. A temporary log deletes its file
+  * when closed (or when the program exits); a log recorded to a given file keeps it, and open() can replay it later.
+  */
+ public class MappedStepLog extends StepLog {
+ 
+     // "SORTSTEP" in ASCII.
+     private static final long MAGIC = 0x534F5254_53544550L;
+     private static final int HEADER_BYTES = 16, RECORDED = -1;
+ 
+     // Each segment maps 2^23 steps (64 MB) of the file.
+     private static final int SEGMENT_BITS = 23, SEGMENT_SIZE = 1 << SEGMENT_BITS, SEGMENT_MASK = SEGMENT_SIZE - 1;
+     private static final long SEGMENT_BYTES = (long) SEGMENT_SIZE * Long.BYTES;
+ 
+     // Disk space left free for everything else while recording (256 MB).
+     private static final long MIN_FREE_BYTES = 256L << 20;
+ 
+     // The file, the disk it is on (null for a log opened for replay, which never grows), and its header.
+     private final FileChannel channel;
+     private final FileStore store;
+     private final LongBuffer header;
+ 
+     // Mapped segments (a segment is only read once the size published by StepLog covers it).
+     private volatile LongBuffer[] segments = new LongBuffer[4];
+ 
+     /*
+      * Constructor: Records to a new temporary file, deleted when the log is closed.
+      */
+     public MappedStepLog() throws IOException {
+         this(Files.createTempFile("sort-steps", ".log"), StandardOpenOption.DELETE_ON_CLOSE);
+     }
+ 
+     /*
+      * Constructor: Records to the given file (replacing it), which is kept after the log is closed.
+      */
+     public MappedStepLog(Path file) throws IOException {
+         this(file, StandardOpenOption.TRUNCATE_EXISTING);
+     }
+ 
+     private MappedStepLog(Path file, StandardOpenOption option) throws IOException {
+         // The disk is found from the directory, since a temporary file may already be deleted once it is open.
+         this.store = Files.getFileStore(file.toAbsolutePath().getParent());
+         this.channel = FileChannel.open(file, StandardOpenOption.CREATE, option, StandardOpenOption.READ, StandardOpenOption.WRITE);
+         this.header = map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+         header.put(0, MAGIC);
+         header.put(1, RECORDED);
+     }
+ 
+     // Opens a finished recording for replay (the header has already been checked).
+     private MappedStepLog(FileChannel channel, LongBuffer header, long steps) throws IOException {
+         this.channel = channel;
+         this.store = null;
+         this.header = header;
+         int count = (int) ((steps + SEGMENT_MASK) >>> SEGMENT_BITS);
+         LongBuffer[] mapped = new LongBuffer[Math.max(4, count)];
+         for (int s = 0; s < count; s++) {
+             long offset = HEADER_BYTES + s * SEGMENT_BYTES;
+             mapped[s] = map(channel, FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT_BYTES, (steps << 3) + HEADER_BYTES - offset));
+         }
+         segments = mapped;
+         restore(steps);
+     }
+ 
+     /*
+      * roomForSteps: How many steps a temporary log has disk space for (keeping MIN_FREE_BYTES free), or
+      * Long.MAX_VALUE if that can't be told (the recording still stops once the disk is full, see mapSegment).
+      */
+     public static long roomForSteps() {
+         try {
+             long usable = Files.getFileStore(Path.of(System.getProperty("java.io.tmpdir"))).getUsableSpace();
+             return Math.max(0, usable - MIN_FREE_BYTES) / Long.BYTES;
+         } catch (IOException | RuntimeException e) {
+             return Long.MAX_VALUE;
+         }
+     }
+ 
+     /*
+      * open: Opens a step log recorded to a file by a finished MappedStepLog, for replay only.
+      */
+     public static MappedStepLog open(Path file) throws IOException {
+         FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+         try {
+             if (channel.size() < HEADER_BYTES) throw new IOException("Not a step log: " + file);
+             LongBuffer header = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+             long steps = header.get(1);
+             if (header.get(0) != MAGIC) throw new IOException("Not a step log: " + file);
+             if (steps < 0) throw new IOException("Step log was never finished: " + file);
+             if (channel.size() < HEADER_BYTES + steps * Long.BYTES) throw new IOException("Step log is truncated: " + file);
+             return new MappedStepLog(channel, header, steps);
+         } catch (IOException | RuntimeException e) {
+             channel.close();
+             throw e;
+         }
+     }
+ 
+     // Maps part of the file as little-endian longs.
+     private static LongBuffer map(FileChannel channel, FileChannel.MapMode mode, long offset, long bytes) throws IOException {
+         MappedByteBuffer buffer = channel.map(mode, offset, bytes);
+         return buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+     }
+ 
+     @Override
+     protected void store(long index, long step) {
+         LongBuffer[] current = segments;
+         int segment = (int) (index >>> SEGMENT_BITS);
+         if (segment == current.length) {
+             LongBuffer[] grown = new LongBuffer[current.length * 2];
+             System.arraycopy(current, 0, grown, 0, current.length);
+             segments = current = grown;
+         }
+         if (current[segment] == null) {
+             current[segment] = mapSegment(segment);
+         }
+         current[segment].put((int) index & SEGMENT_MASK, step);
+     }
+ 
+     // Maps the next segment for writing (growing the file), or stops the recording if the log was closed or the disk is full.
+     private LongBuffer mapSegment(int segment) {
+         try {
+             if (store.getUsableSpace() < SEGMENT_BYTES + MIN_FREE_BYTES) {
+                 throw new IOException("not enough disk space in " + store + " to record more than " + (long) segment * SEGMENT_SIZE + " steps");
+             }
+             return map(channel, FileChannel.MapMode.READ_WRITE, HEADER_BYTES + segment * SEGMENT_BYTES, SEGMENT_BYTES);
+         } catch (ClosedChannelException e) {
+             throw new CancellationException("Step log closed");
+         } catch (IOException e) {
+             throw new UncheckedIOException("Could not grow the step log: " + e.getMessage(), e);
+         }
+     }
+ 
+     @Override
+     protected long load(long index) {
+         return segments[(int) (index >>> SEGMENT_BITS)].get((int) index & SEGMENT_MASK);
+     }
+ 
+     /*
+      * finish: Writes the number of steps into the header, so the file can be opened again, cuts the file down to
+      * those steps (the last segment is mapped whole), then marks the log as complete.
+      */
+     @Override
+     public void finish() {
+         if (header.isReadOnly()) return; // Opened finished
+         header.put(1, size());
+         try {
+             channel.truncate(HEADER_BYTES + size() * Long.BYTES);
+         } catch (IOException e) {
+             // Some systems can't shorten a mapped file; open() accepts a file longer than its steps.
+         }
+         super.finish();
+     }
+ 
+     /*
+      * close: Closes the file (deleting it if it is temporary). The mapped segments stay readable until they
+      * are garbage collected, so a replay that is still finishing its last step is not affected.
+      */
+     @Override
+     public void close() {
+         try {
+             channel.close();
+         } catch (IOException e) {
+             // Nothing left to release.
+         }
+     }
+ }
@@ -0,0 +1,55 @@
+/*
+ * MergeSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * MergeSort is a top-down merge sort. Each merge copies the subarray into a buffer and
+  * writes the merged values back, so it shows up as comparisons and array writes rather than swaps.
+  */
+ public class MergeSort implements SortAlgorithm {
+ 
+     @Override
+     public String getName() {
+         return "Merge Sort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         sort(recorder, 0, recorder.length() - 1);
+     }
+ 
+     // Sorts the subarray low..high (inclusive).
+     private static void sort(SortRecorder recorder, int low, int high) {
+         if (high <= low) return;
+         int mid = (low + high) >>> 1;
+         sort(recorder, low, mid);
+         sort(recorder, mid + 1, high);
+         merge(recorder, low, mid, high);
+     }
+ 
+     /*
+      * merge: Merges the sorted runs low..mid and mid + 1..high (inclusive) through the recorder's saved copies
+      * (the buffer). Also used by TimSort to merge its runs.
+      */
+     static void merge(SortRecorder recorder, int low, int mid, int high) {
+         recorder.range(low, high);
+         recorder.save(low, high);
+ 
+         int i = low, j = mid + 1;
+         for (int k = low; k <= high; k++) {
+             if (i > mid) {
+                 recorder.restore(k, j++);
+             } else if (j > high) {
+                 recorder.restore(k, i++);
+             } else if (recorder.compareSaved(i, j) > 0) {
+                 recorder.restore(k, j++);
+             } else {
+                 recorder.restore(k, i++);
+             }
+         }
+     }
+ }
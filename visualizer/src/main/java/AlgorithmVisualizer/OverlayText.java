@@ -0,0 +1,91 @@
+/*
+ * OverlayText.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.Graphics;
+ 
+ /*
+  * OverlayText builds one line of overlay text in a reused char buffer. The overlay is redrawn on every
+  * frame, and String.format would allocate a formatter, a builder and the boxed arguments each time;
+  * appending into the buffer and drawing the chars directly allocates nothing.
+  */
+ public class OverlayText {
+ 
+     // Characters of the current line (anything past the end is dropped).
+     private final char[] chars = new char[256];
+     private int length;
+ 
+     // Scratch space for the digits of a number, written from the end.
+     private final char[] digits = new char[32];
+ 
+     /*
+      * clear: Starts a new line.
+      */
+     public OverlayText clear() {
+         length = 0;
+         return this;
+     }
+ 
+     /*
+      * append: Appends text.
+      */
+     public OverlayText append(String text) {
+         int count = Math.min(text.length(), chars.length - length);
+         text.getChars(0, count, chars, length);
+         length += count;
+         return this;
+     }
+ 
+     /*
+      * append: Appends a whole number with thousands separators (like %,d).
+      */
+     public OverlayText append(long value) {
+         if (value < 0) {
+             append("-");
+             value = -value;
+         }
+         int start = digits.length, grouped = 0;
+         do {
+             if (grouped == 3) {
+                 digits[--start] = ',';
+                 grouped = 0;
+             }
+             digits[--start] = (char) ('0' + value % 10);
+             value /= 10;
+             grouped++;
+         } while (value > 0);
+         int count = Math.min(digits.length - start, chars.length - length);
+         System.arraycopy(digits, start, chars, length, count);
+         length += count;
+         return this;
+     }
+ 
+     /*
+      * append: Appends a number rounded to the given number of decimals, with thousands separators (like %,.Nf).
+      */
+     public OverlayText append(double value, int decimals) {
+         long scale = 1;
+         for (int i = 0; i < decimals; i++) scale *= 10;
+         long scaled = Math.round(Math.abs(value) * scale);
+         if (value < 0 && scaled != 0) append("-");
+         append(scaled / scale);
+         if (decimals == 0) return this;
+         append(".");
+         long fraction = scaled % scale;
+         for (long digit = scale / 10; digit > 0 && length < chars.length; digit /= 10) {
+             chars[length++] = (char) ('0' + fraction / digit % 10);
+         }
+         return this;
+     }
+ 
+     /*
+      * draw: Draws the line with its baseline at (x, y).
+      */
+     public void draw(Graphics g, int x, int y) {
+         g.drawChars(chars, 0, length, x, y);
+     }
+ }
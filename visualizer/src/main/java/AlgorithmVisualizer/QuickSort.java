@@ -0,0 +1,65 @@
+/*
+ * QuickSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * QuickSort is a three-way (Dijkstra) quicksort with the middle element as pivot.
+  * Elements equal to the pivot are gathered in the middle, so arrays with few unique
+  * values stay fast, and it recurses into the smaller side to keep the stack shallow.
+  */
+ public class QuickSort implements SortAlgorithm {
+ 
+     @Override
+     public String getName() {
+         return "Quick Sort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         sort(recorder, 0, recorder.length() - 1);
+     }
+ 
+     // Sorts the subarray low..high (inclusive).
+     private static void sort(SortRecorder recorder, int low, int high) {
+         while (low < high) {
+             recorder.range(low, high);
+ 
+             // Move the middle element to the front to use as the pivot.
+             int mid = (low + high) >>> 1;
+             if (mid != low) {
+                 recorder.swap(low, mid);
+             }
+ 
+             /*
+              * Partition into three parts around the pivot (which always sits at lessThan):
+                  * low..lessThan-1      -> less than the pivot
+                  * lessThan..i-1        -> equal to the pivot
+                  * greaterThan+1..high  -> greater than the pivot
+              */
+             int lessThan = low, i = low + 1, greaterThan = high;
+             while (i <= greaterThan) {
+                 int c = recorder.compare(i, lessThan);
+                 if (c < 0) {
+                     recorder.swap(lessThan++, i++);
+                 } else if (c > 0) {
+                     recorder.swap(i, greaterThan--);
+                 } else {
+                     i++;
+                 }
+             }
+ 
+             // Recurse into the smaller side and loop on the larger one.
+             if (lessThan - low < high - greaterThan) {
+                 sort(recorder, low, lessThan - 1);
+                 low = greaterThan + 1;
+             } else {
+                 sort(recorder, greaterThan + 1, high);
+                 high = lessThan - 1;
+             }
+         }
+     }
+ }
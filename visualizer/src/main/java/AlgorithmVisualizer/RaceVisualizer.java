@@ -0,0 +1,287 @@
+/*
+ * RaceVisualizer.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.awt.*;
+ import java.util.concurrent.Executors;
+ import java.util.concurrent.ScheduledExecutorService;
+ import javax.swing.*;
+ 
+ /*
+  * RaceVisualizer runs several algorithms side by side on identical copies of the same values, one lane
+  * (an InsertionSortVisualizer without controls) per algorithm, to show how much each one costs.
+  * Every lane replays at the same pace, so the lane that needs the fewest steps finishes first.
+  * The lanes share their threads instead of starting their own, so a race of any size uses a fixed number of threads:
+      * workers       -> the shared task workers (virtual threads, or a fork-join pool with a thread per core)
+      *                  that record and index the sort of every lane
+      * stepScheduler -> a few step clock threads (at most one per core) that tick the replay of every lane
+      * renderClock   -> one Swing timer that draws the latest frame of every lane at once
+  *
+  * Usage: java -jar algorithm-visualizer.jar --race [options], where the options are:
+      * --algorithms A,B,.. -> algorithms to race, e.g. "Insertion Sort,quicksort" (default: four insertion-style and fast sorts)
+      * --size N            -> number of values (default 100)
+      * --range N           -> values are picked from 1..N (default 50)
+      * --seed N            -> seed for the random values (default: a random seed)
+      * --distribution NAME -> distribution of the values (default Uniform)
+      * --speed N           -> sorting speed from 0 to 100, like the speed slider (default 100)
+      * --steps-per-frame N -> steps each lane replays per frame at speed 100 (default 100)
+  */
+ public class RaceVisualizer extends JPanel {
+ 
+     private static final long serialVersionUID = 1L;
+ 
+     private static final String[] DEFAULT_ALGORITHMS = { "Insertion Sort", "Binary Insertion Sort", "Shell Sort", "Quick Sort" };
+ 
+     // Size of each lane (the lanes are stacked, each as wide as the single panel) and the frame rate of the render clock.
+     private static final int LANE_WIDTH = 1600, LANE_HEIGHT = 220, FRAME_RATE = 60;
+ 
+     private final ScheduledExecutorService stepScheduler;
+     private final Timer renderClock = new Timer(1000 / FRAME_RATE, e -> renderFrame());
+ 
+     /*
+      * The lanes:
+          * algorithms   -> algorithm each lane runs
+          * lanes        -> panel that replays and draws each lane's sort
+          * titles       -> name of each lane's algorithm, and its place once it has finished
+          * finished     -> number of lanes that have finished the current race
+          * raceListener -> run once every lane has finished, or null
+      */
+     private final SortAlgorithm[] algorithms;
+     private final InsertionSortVisualizer[] lanes;
+     private final JLabel[] titles;
+     private int finished;
+     private Runnable raceListener;
+ 
+     // State of the race as a whole (only used on the Event Dispatch Thread); FINISHED once every lane has finished.
+     private SortState state = SortState.WAITING;
+ 
+     /*
+      * Constructor: Lays out one lane per algorithm, each with its own copy of the values, paced by the
+      * given sorting speed (and steps per frame at speed 100).
+      */
+     public RaceVisualizer(SortAlgorithm[] algorithms, int[] values, int sortingSpeed, int stepsPerFrame) {
+         this.algorithms = algorithms.clone();
+         int processors = Runtime.getRuntime().availableProcessors();
+         this.stepScheduler = Executors.newScheduledThreadPool(Math.min(algorithms.length, processors), runnable -> {
+             Thread thread = new Thread(runnable, "race-clock");
+             thread.setDaemon(true);
+             return thread;
+         });
+ 
+         setLayout(new GridLayout(algorithms.length, 1));
+         lanes = new InsertionSortVisualizer[algorithms.length];
+         titles = new JLabel[algorithms.length];
+         for (int i = 0; i < algorithms.length; i++) {
+             int lane = i;
+             lanes[i] = new InsertionSortVisualizer(stepScheduler, TaskScope.workers(), false);
+             lanes[i].setArray(values.clone());
+             lanes[i].setAlgorithm(algorithms[i]);
+             lanes[i].setFramePacing(FRAME_RATE, stepsPerFrame);
+             lanes[i].setSortingSpeed(sortingSpeed);
+             lanes[i].setFinishListener(() -> laneFinished(lane));
+             lanes[i].setPreferredSize(new Dimension(LANE_WIDTH, LANE_HEIGHT));
+ 
+             titles[i] = new JLabel(algorithms[i].getName());
+             titles[i].setBorder(BorderFactory.createEmptyBorder(4, 10, 0, 0));
+             JPanel laneWithTitle = new JPanel(new BorderLayout());
+             laneWithTitle.add(titles[i], BorderLayout.NORTH);
+             laneWithTitle.add(lanes[i], BorderLayout.CENTER);
+             add(laneWithTitle);
+         }
+     }
+ 
+     /*
+      * startRace: Starts every lane at once. (Transition from WAITING -> RUNNING)
+      */
+     public void startRace() {
+         if (state != SortState.WAITING) return;
+         state = SortState.RUNNING;
+         finished = 0;
+         for (InsertionSortVisualizer lane : lanes) {
+             lane.startSort();
+         }
+         renderClock.start();
+     }
+ 
+     /*
+      * pauseRace: Pauses every lane. (Transition from RUNNING -> PAUSED)
+      */
+     public void pauseRace() {
+         if (state != SortState.RUNNING) return;
+         state = SortState.PAUSED;
+         for (InsertionSortVisualizer lane : lanes) {
+             lane.pauseSort();
+         }
+     }
+ 
+     /*
+      * resumeRace: Resumes every lane that has not finished yet. (Transition from PAUSED -> RUNNING)
+      */
+     public void resumeRace() {
+         if (state != SortState.PAUSED) return;
+         state = SortState.RUNNING;
+         for (InsertionSortVisualizer lane : lanes) {
+             lane.resumeSort();
+         }
+     }
+ 
+     /*
+      * resetRace: Stops every lane and restores the original values. (Transition to WAITING)
+      */
+     public void resetRace() {
+         renderClock.stop();
+         for (int i = 0; i < lanes.length; i++) {
+             lanes[i].stopSort();
+             titles[i].setText(algorithms[i].getName());
+         }
+         state = SortState.WAITING;
+         finished = 0;
+     }
+ 
+     // Current state of the race.
+     public SortState getState() {
+         return state;
+     }
+ 
+     /*
+      * laneFinished: Shows the lane's place, steps and time once its final frame is drawn, and stops the render
+      * clock once every lane has finished. (Transition to FINISHED)
+      */
+     private void laneFinished(int lane) {
+         if (state == SortState.WAITING) return; // Finished just before a reset
+         finished++;
+         SortMetrics metrics = lanes[lane].getMetrics();
+         titles[lane].setText(String.format("%s   %s   %,d steps in %.1f s", placeName(finished), algorithms[lane].getName(),
+                 metrics.getStepsRecorded(), metrics.getElapsedMillis() / 1000.0));
+         if (finished < lanes.length) return;
+         renderClock.stop();
+         state = SortState.FINISHED;
+         if (raceListener != null) raceListener.run();
+     }
+ 
+     /*
+      * setRaceListener: Sets what to run (on the Event Dispatch Thread) once every lane has finished.
+      */
+     public void setRaceListener(Runnable listener) {
+         this.raceListener = listener;
+     }
+ 
+     // Ordinal of a finishing place (1st, 2nd, 3rd, 4th, ...).
+     private static String placeName(int place) {
+         if (place % 100 / 10 == 1) return place + "th";
+         switch (place % 10) {
+             case 1:  return place + "st";
+             case 2:  return place + "nd";
+             case 3:  return place + "rd";
+             default: return place + "th";
+         }
+     }
+ 
+     /*
+      * renderFrame: Draws everything every lane published since the last frame (called by the render clock).
+      */
+     private void renderFrame() {
+         for (InsertionSortVisualizer lane : lanes) {
+             lane.renderFrame();
+         }
+     }
+ 
+     /*
+      * main: Parses the race options, then opens a window with the lanes and a Start/Pause/Resume and a Reset button.
+      */
+     public static void main(String[] args) {
+         String[] names = DEFAULT_ALGORITHMS;
+         int size = 100, range = 50, speed = 100, stepsPerFrame = 100;
+         long seed = ArrayGenerator.randomSeed();
+         String distribution = ArrayGenerator.UNIFORM;
+         SortAlgorithm[] algorithms;
+         try {
+             for (int i = 0; i < args.length; i++) {
+                 String option = args[i];
+                 if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+                 String value = args[++i];
+                 switch (option) {
+                     case "--algorithms":      names = value.split(","); break;
+                     case "--size":            size = Integer.parseInt(value); break;
+                     case "--range":           range = Integer.parseInt(value); break;
+                     case "--seed":            seed = Long.parseLong(value); break;
+                     case "--distribution":    distribution = ArrayGenerator.forName(value); break;
+                     case "--speed":           speed = Integer.parseInt(value); break;
+                     case "--steps-per-frame": stepsPerFrame = Integer.parseInt(value); break;
+                     default: throw new IllegalArgumentException("Unknown option: " + option);
+                 }
+             }
+             if (size < 1 || size > InsertionSortVisualizer.MAX_NUM_VALUES) throw new IllegalArgumentException("--size must be between 1 and " + InsertionSortVisualizer.MAX_NUM_VALUES);
+             if (range < 1 || range > InsertionSortVisualizer.MAX_VALUE_RANGE) throw new IllegalArgumentException("--range must be between 1 and " + InsertionSortVisualizer.MAX_VALUE_RANGE);
+             if (speed < 0 || speed > 100) throw new IllegalArgumentException("--speed must be between 0 and 100");
+             if (stepsPerFrame < 1) throw new IllegalArgumentException("--steps-per-frame must be at least 1");
+             algorithms = new SortAlgorithm[names.length];
+             for (int i = 0; i < names.length; i++) {
+                 algorithms[i] = SortAlgorithms.forName(names[i].trim());
+                 StepLog.checkSteps(algorithms[i], size);
+             }
+         } catch (IllegalArgumentException e) {
+             System.err.println(e.getMessage());
+             System.err.println("Usage: --race [--algorithms A,B,..] [--size N] [--range N] [--seed N] [--distribution NAME] [--speed N] [--steps-per-frame N]");
+             System.exit(2);
+             return;
+         }
+ 
+         RaceVisualizer race = new RaceVisualizer(algorithms, ArrayGenerator.generate(distribution, size, range, seed), speed, stepsPerFrame);
+         JFrame frame = new JFrame("Sorting Race (" + distribution + ", seed " + seed + ")");
+ 
+         JButton startButton = new JButton("Start");
+         JButton resetButton = new JButton("Reset");
+         Dimension buttonSize = new Dimension(100, 25);
+         startButton.setPreferredSize(buttonSize);
+         resetButton.setPreferredSize(buttonSize);
+         resetButton.setVisible(false);
+ 
+         // Start, pause and resume all lanes together; reset puts every lane back to the original values.
+         startButton.addActionListener(e -> {
+             SortState state = race.getState();
+             if (state == SortState.WAITING || state == SortState.FINISHED) {
+                 race.resetRace();
+                 race.startRace();
+                 startButton.setText("Pause");
+                 resetButton.setVisible(false);
+             } else if (state == SortState.PAUSED) {
+                 race.resumeRace();
+                 startButton.setText("Pause");
+                 resetButton.setVisible(false);
+             } else {
+                 race.pauseRace();
+                 startButton.setText("Resume");
+                 resetButton.setVisible(true);
+             }
+         });
+         resetButton.addActionListener(e -> {
+             race.resetRace();
+             startButton.setText("Start");
+             resetButton.setVisible(false);
+         });
+ 
+         // Once every lane has finished, offer to run the race again.
+         race.setRaceListener(() -> {
+             startButton.setText("Start");
+             resetButton.setVisible(true);
+         });
+ 
+         JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+         controlPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+         controlPanel.add(startButton);
+         controlPanel.add(resetButton);
+ 
+         frame.setLayout(new BorderLayout());
+         frame.add(new JScrollPane(race), BorderLayout.CENTER);
+         frame.add(controlPanel, BorderLayout.SOUTH);
+         frame.setSize(LANE_WIDTH + 40, Math.min(1000, algorithms.length * (LANE_HEIGHT + 20) + 80));
+         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+         frame.setLocation(50, 50);
+         frame.setVisible(true);
+     }
+ }
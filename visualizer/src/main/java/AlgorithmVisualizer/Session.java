@@ -0,0 +1,191 @@
+/*
+ * Session.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.IOException;
+ import java.nio.BufferUnderflowException;
+ import java.nio.ByteBuffer;
+ import java.nio.ByteOrder;
+ import java.nio.channels.FileChannel;
+ import java.nio.charset.StandardCharsets;
+ import java.nio.file.Path;
+ import java.nio.file.StandardOpenOption;
+ 
+ /*
+  * Session holds everything needed to reopen a sort where it was left: the original (unsorted) values, where
+  * they came from, the algorithm and element type, the pacing and the step the replay had reached.
+  * A session is saved as a small binary file, written and read through a FileChannel:
+      * magic    -> 8 bytes, MAGIC (marks the file as a session)
+      * version  -> 4 bytes, VERSION
+      * header   -> 4 bytes, size of the settings and length that follow
+      * settings -> seed, step, value range, sorting speed, frame rate, steps per frame, then the algorithm,
+      *             distribution and element type names (each a 2-byte length and UTF-8 bytes; version 1 files
+      *             have no element type, and open as ints)
+      * length   -> 4 bytes, number of values
+      * values   -> 4 bytes per value
+  * Every number is little-endian. The values are written in one gathering write and read back from a mapping
+  * of the file in one bulk copy, so opening a session of a million values takes about as long as reading 4 MB.
+  */
+ public class Session {
+ 
+     // "SORTSESS" in ASCII.
+     private static final long MAGIC = 0x534F5254_53455353L;
+     private static final int VERSION = 2;
+     private static final int PREFIX_BYTES = 16, MAX_HEADER_BYTES = 1 << 16;
+ 
+     private final int[] values;
+     private final String distribution, algorithm, elementType;
+     private final long seed, step;
+     private final int valueRange, sortingSpeed, framesPerSecond, stepsPerFrame;
+ 
+     /*
+      * Constructor: Keeps the given settings (the values are not copied, so pass a copy if the array will change).
+      */
+     public Session(int[] values, String distribution, long seed, int valueRange, String algorithm, String elementType,
+             int sortingSpeed, int framesPerSecond, int stepsPerFrame, long step) {
+         this.values = values;
+         this.distribution = distribution;
+         this.seed = seed;
+         this.valueRange = valueRange;
+         this.algorithm = algorithm;
+         this.elementType = elementType;
+         this.sortingSpeed = sortingSpeed;
+         this.framesPerSecond = framesPerSecond;
+         this.stepsPerFrame = stepsPerFrame;
+         this.step = step;
+     }
+ 
+     /*
+      * write: Saves the session to the given file (replacing it).
+      */
+     public void write(Path file) throws IOException {
+         byte[] algorithmName = algorithm.getBytes(StandardCharsets.UTF_8);
+         byte[] distributionName = distribution.getBytes(StandardCharsets.UTF_8);
+         byte[] elementTypeName = elementType.getBytes(StandardCharsets.UTF_8);
+         int headerBytes = 2 * Long.BYTES + 4 * Integer.BYTES + 3 * Short.BYTES + algorithmName.length + distributionName.length
+                 + elementTypeName.length + Integer.BYTES;
+         if (headerBytes > MAX_HEADER_BYTES) throw new IOException("Algorithm, distribution or element type name is too long");
+ 
+         ByteBuffer header = ByteBuffer.allocate(PREFIX_BYTES + headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+         header.putLong(MAGIC).putInt(VERSION).putInt(headerBytes);
+         header.putLong(seed).putLong(step);
+         header.putInt(valueRange).putInt(sortingSpeed).putInt(framesPerSecond).putInt(stepsPerFrame);
+         putName(header, algorithmName);
+         putName(header, distributionName);
+         putName(header, elementTypeName);
+         header.putInt(values.length);
+         header.flip();
+ 
+         ByteBuffer body = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+         body.asIntBuffer().put(values);
+ 
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+             ByteBuffer[] buffers = { header, body };
+             while (header.hasRemaining() || body.hasRemaining()) {
+                 channel.write(buffers);
+             }
+         }
+     }
+ 
+     private static void putName(ByteBuffer buffer, byte[] name) {
+         buffer.putShort((short) name.length).put(name);
+     }
+ 
+     /*
+      * read: Opens a session saved by write. Throws an IOException if the file is not a valid session.
+      */
+     public static Session read(Path file) throws IOException {
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+             ByteBuffer prefix = readFully(channel, ByteBuffer.allocate(PREFIX_BYTES), file);
+             if (prefix.getLong() != MAGIC) throw new IOException("Not a session file: " + file);
+             int version = prefix.getInt();
+             if (version < 1 || version > VERSION) throw new IOException("Unsupported session version " + version + ": " + file);
+             int headerBytes = prefix.getInt();
+             if (headerBytes < 0 || headerBytes > MAX_HEADER_BYTES) throw new IOException("Corrupt session header: " + file);
+ 
+             ByteBuffer header = readFully(channel, ByteBuffer.allocate(headerBytes), file);
+             try {
+                 long seed = header.getLong(), step = header.getLong();
+                 int valueRange = header.getInt(), sortingSpeed = header.getInt(), framesPerSecond = header.getInt(), stepsPerFrame = header.getInt();
+                 String algorithm = getName(header), distribution = getName(header);
+                 String elementType = version >= 2 ? getName(header) : SortElements.INT;
+                 int length = header.getInt();
+                 if (length < 1 || length > SortStep.MAX_INDEX || step < 0) throw new IOException("Corrupt session header: " + file);
+ 
+                 // Copy the values straight out of a mapping of the file.
+                 long offset = PREFIX_BYTES + headerBytes, bytes = (long) length * Integer.BYTES;
+                 if (channel.size() < offset + bytes) throw new IOException("Session file is truncated: " + file);
+                 int[] values = new int[length];
+                 channel.map(FileChannel.MapMode.READ_ONLY, offset, bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+                 return new Session(values, distribution, seed, valueRange, algorithm, elementType, sortingSpeed, framesPerSecond, stepsPerFrame, step);
+             } catch (BufferUnderflowException e) {
+                 throw new IOException("Corrupt session header: " + file, e);
+             }
+         }
+     }
+ 
+     // Reads until the buffer is full, then flips it for reading.
+     private static ByteBuffer readFully(FileChannel channel, ByteBuffer buffer, Path file) throws IOException {
+         while (buffer.hasRemaining()) {
+             if (channel.read(buffer) < 0) throw new IOException("Session file is truncated: " + file);
+         }
+         buffer.flip();
+         return buffer.order(ByteOrder.LITTLE_ENDIAN);
+     }
+ 
+     private static String getName(ByteBuffer buffer) {
+         byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+         buffer.get(name);
+         return new String(name, StandardCharsets.UTF_8);
+     }
+ 
+     // Original (unsorted) values.
+     public int[] getValues() {
+         return values;
+     }
+ 
+     // Distribution and seed the values were generated from, and their range.
+     public String getDistribution() {
+         return distribution;
+     }
+ 
+     public long getSeed() {
+         return seed;
+     }
+ 
+     public int getValueRange() {
+         return valueRange;
+     }
+ 
+     // Name of the algorithm sorting the values.
+     public String getAlgorithm() {
+         return algorithm;
+     }
+ 
+     // Type of the elements the values are sorted as (see SortElements).
+     public String getElementType() {
+         return elementType;
+     }
+ 
+     // Pacing of the replay.
+     public int getSortingSpeed() {
+         return sortingSpeed;
+     }
+ 
+     public int getFramesPerSecond() {
+         return framesPerSecond;
+     }
+ 
+     public int getStepsPerFrame() {
+         return stepsPerFrame;
+     }
+ 
+     // Step the replay had reached (0 if the sort had not started).
+     public long getStep() {
+         return step;
+     }
+ }
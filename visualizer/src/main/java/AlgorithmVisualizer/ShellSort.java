@@ -0,0 +1,51 @@
+/*
+ * ShellSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * ShellSort runs gapped insertion sorts with shrinking gaps (Ciura's sequence, extended by
+  * a factor of 2.25 for large arrays), finishing with a plain insertion sort (gap 1).
+  */
+ public class ShellSort implements SortAlgorithm {
+ 
+     // Ciura's experimentally determined gaps.
+     private static final int[] CIURA_GAPS = { 1, 4, 10, 23, 57, 132, 301, 701 };
+ 
+     @Override
+     public String getName() {
+         return "Shell Sort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         int n = recorder.length();
+         for (int gap : gaps(n)) {
+             for (int i = gap; i < n; i++) {
+                 for (int j = i; j >= gap && recorder.compare(j - gap, j) > 0; j -= gap) {
+                     recorder.swap(j - gap, j);
+                 }
+             }
+         }
+     }
+ 
+     /*
+      * gaps: Returns the gaps smaller than n (always including 1), largest first.
+      */
+     private static int[] gaps(int n) {
+         int[] gaps = new int[64];
+         int count = 0, gap = 1;
+         while (count == 0 || gap < n) {
+             gaps[count++] = gap;
+             gap = count < CIURA_GAPS.length ? CIURA_GAPS[count] : (int) (gap * 2.25);
+         }
+         int[] result = new int[count];
+         for (int i = 0; i < count; i++) {
+             result[i] = gaps[count - 1 - i];
+         }
+         return result;
+     }
+ }
@@ -0,0 +1,42 @@
+/*
+ * SortAlgorithm.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortAlgorithm is implemented by every sort the visualizer can run. An algorithm never
+  * touches the array directly: it reads, compares, swaps and writes through the SortRecorder
+  * it is given, so every algorithm produces the same kind of step log and the same counters
+  * (comparisons, swaps/shifts, array writes) and can be replayed by the same panel.
+  */
+ public interface SortAlgorithm {
+ 
+     // Name shown in the algorithm selector.
+     String getName();
+ 
+     /*
+      * usesKeyLayout: Whether the panel should lay the bars out like insertion sort, with the
+      * sorted portion, the key/comparison pair and the unsorted portion separated by padding.
+      * Algorithms that work anywhere in the array are drawn as a single flat row instead.
+      */
+     default boolean usesKeyLayout() {
+         return false;
+     }
+ 
+     /*
+      * estimateSteps: Roughly how many steps sorting length values in random order takes, used to refuse a run too
+      * long to record before it starts and to pick where its steps are kept (see StepLog.forSort). The default
+      * suits the O(n log n) sorts, which take a few steps per comparison; quadratic sorts override it.
+      */
+     default long estimateSteps(int length) {
+         return 3L * length * (64 - Long.numberOfLeadingZeros(length));
+     }
+ 
+     /*
+      * sort: Sorts the recorder's array, recording every step through the recorder's methods.
+      */
+     void sort(SortRecorder recorder);
+ }
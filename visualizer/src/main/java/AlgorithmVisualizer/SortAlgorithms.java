@@ -0,0 +1,53 @@
+/*
+ * SortAlgorithms.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortAlgorithms lists every algorithm the visualizer can run, in the order they are offered.
+  */
+ public final class SortAlgorithms {
+ 
+     private static final SortAlgorithm[] ALL = {
+         new InsertionSort(),
+         new BinaryInsertionSort(),
+         new ShellSort(),
+         new MergeSort(),
+         new QuickSort(),
+         new HeapSort(),
+         new TimSort()
+     };
+ 
+     private SortAlgorithms() {
+     }
+ 
+     // Every available algorithm.
+     public static SortAlgorithm[] all() {
+         return ALL.clone();
+     }
+ 
+     // Names of every available algorithm (for selectors).
+     public static String[] names() {
+         String[] names = new String[ALL.length];
+         for (int i = 0; i < ALL.length; i++) {
+             names[i] = ALL[i].getName();
+         }
+         return names;
+     }
+ 
+     /*
+      * forName: Finds an algorithm by name, ignoring case and spaces (so "quicksort" matches "Quick Sort").
+      */
+     public static SortAlgorithm forName(String name) {
+         String wanted = name.replace(" ", "");
+         for (SortAlgorithm algorithm : ALL) {
+             if (algorithm.getName().replace(" ", "").equalsIgnoreCase(wanted)) {
+                 return algorithm;
+             }
+         }
+         throw new IllegalArgumentException("Unknown sorting algorithm: " + name);
+     }
+ }
@@ -0,0 +1,102 @@
+/*
+ * SortCounters.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortCounters tallies the cost of a sort from its steps. Because the counts are derived
+  * from the step log itself, the recorder (totals for the whole run) and the player (totals
+  * up to the current step) always agree, whichever algorithm produced the log.
+  */
+ public class SortCounters {
+ 
+     /*
+      * Running totals:
+         * comparisons -> pairs of elements compared
+         * shifts      -> insertion sort shifts (an element moved one position, on its own or as part of a block move)
+         * swaps       -> two elements exchanged
+         * writes      -> individual array writes (a shift or swap is two writes, and a streamed value is written once as it arrives)
+      */
+     private long comparisons, shifts, swaps, writes;
+ 
+     /*
+      * count: Adds the cost of a single step to the totals.
+      */
+     public void count(long step) {
+         switch (SortStep.opcode(step)) {
+             case SortStep.KEY:
+                 // The key is compared with its left neighbour, if it has one.
+                 if (SortStep.b(step) >= 0) comparisons++;
+                 break;
+             case SortStep.SHIFT:
+                 shifts++;
+                 writes += 2;
+                 if (SortStep.b(step) >= 0) comparisons++;
+                 break;
+             case SortStep.COMPARE:
+             case SortStep.PROBE:
+                 comparisons++;
+                 break;
+             case SortStep.MOVE:
+                 // Every element of the block moves up one place, and the moved element is written once below it.
+                 int block = SortStep.b(step) - SortStep.a(step);
+                 shifts += block;
+                 writes += block + 1;
+                 break;
+             case SortStep.SWAP:
+                 swaps++;
+                 writes += 2;
+                 break;
+             case SortStep.WRITE:
+             case SortStep.APPEND:
+                 writes++;
+                 break;
+             default:
+                 break;
+         }
+     }
+ 
+     /*
+      * reset: Sets every total back to zero.
+      */
+     public void reset() {
+         comparisons = 0;
+         shifts = 0;
+         swaps = 0;
+         writes = 0;
+     }
+ 
+     /*
+      * set: Copies every total from another set of counters (used to snapshot the player's totals).
+      */
+     public void set(SortCounters other) {
+         comparisons = other.comparisons;
+         shifts = other.shifts;
+         swaps = other.swaps;
+         writes = other.writes;
+     }
+ 
+     public long getComparisons() {
+         return comparisons;
+     }
+ 
+     public long getShifts() {
+         return shifts;
+     }
+ 
+     public long getSwaps() {
+         return swaps;
+     }
+ 
+     public long getWrites() {
+         return writes;
+     }
+ 
+     @Override
+     public String toString() {
+         return "comparisons=" + comparisons + ", shifts=" + shifts + ", swaps=" + swaps + ", writes=" + writes;
+     }
+ }
@@ -0,0 +1,405 @@
+/*
+ * SortElements.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortElements is the storage the recorder sorts: the elements themselves, as opposed to the bar heights the
+  * steps are replayed onto. Each element type has its own subclass over plain primitive arrays, so comparing and
+  * moving elements never boxes them or goes through a Comparator:
+     * INT    -> int[], the values themselves (4 bytes per element)
+     * LONG   -> long[], each value shifted into the high 32 bits (8 bytes per element, compared as longs)
+     * DOUBLE -> double[], each value divided by DOUBLE_SCALE (8 bytes per element, compared as doubles)
+     * KEYED  -> key + payload records in two int[]s, sorted by key, with the record's original position as its
+     *           payload (8 bytes per element); equal keys can be told apart, so the result can be checked for stability
+  * Every type is made from the same int values (see of) and keeps the order of the values exactly, so the bars,
+  * the steps and the counters are the same for every type; only the work of sorting them changes.
+  * Steps only hold indices, apart from a merge writing an element back (see restore), whose bar height is its value.
+  */
+ public abstract class SortElements {
+ 
+     public static final String INT = "Int", LONG = "Long", DOUBLE = "Double", KEYED = "Keyed Record";
+     private static final String[] NAMES = { INT, LONG, DOUBLE, KEYED };
+ 
+     // Doubles are made as value / DOUBLE_SCALE, a power of two, so the value can be recovered exactly.
+     private static final double DOUBLE_SCALE = 1024;
+ 
+     // Names of every element type (for selectors).
+     public static String[] names() {
+         return NAMES.clone();
+     }
+ 
+     /*
+      * forName: Finds an element type by name, ignoring case, spaces and dashes (so "keyed-record" matches "Keyed Record").
+      */
+     public static String forName(String name) {
+         String wanted = name.replace(" ", "").replace("-", "");
+         for (String type : NAMES) {
+             if (type.replace(" ", "").equalsIgnoreCase(wanted)) {
+                 return type;
+             }
+         }
+         throw new IllegalArgumentException("Unknown element type: " + name);
+     }
+ 
+     /*
+      * of: Makes elements of the named type from a copy of the given values.
+      */
+     public static SortElements of(String type, int[] values) {
+         switch (forName(type)) {
+             case INT:
+                 return new Ints(values.clone());
+             case LONG:
+                 long[] longs = new long[values.length];
+                 for (int i = 0; i < values.length; i++) longs[i] = (long) values[i] << 32;
+                 return new Longs(longs);
+             case DOUBLE:
+                 double[] doubles = new double[values.length];
+                 for (int i = 0; i < values.length; i++) doubles[i] = values[i] / DOUBLE_SCALE;
+                 return new Doubles(doubles);
+             default:
+                 int[] payloads = new int[values.length];
+                 for (int i = 0; i < values.length; i++) payloads[i] = i;
+                 return new Keyed(values.clone(), payloads);
+         }
+     }
+ 
+     // Name of the element type, and the bytes each element takes.
+     public abstract String getType();
+ 
+     public abstract int bytes();
+ 
+     // Number of elements.
+     public abstract int length();
+ 
+     // Value the element at index was made from (the height of its bar).
+     public abstract int height(int index);
+ 
+     // Compares the elements at i and j (negative, zero or positive, like Integer.compare).
+     public abstract int compare(int i, int j);
+ 
+     // Exchanges the elements at i and j.
+     public abstract void swap(int i, int j);
+ 
+     // Moves the element at from down to index to, moving the block to..from - 1 up one place.
+     public abstract void move(int to, int from);
+ 
+     /*
+      * Saved copies of elements, e.g. a merge buffer (each element is saved to the slot of the same index):
+         * save         -> saves a copy of the elements low..high
+         * compareSaved -> compares the saved copies in slots i and j
+         * restore      -> writes the saved copy in slot to index
+      */
+     public abstract void save(int low, int high);
+ 
+     public abstract int compareSaved(int i, int j);
+ 
+     public abstract void restore(int index, int slot);
+ 
+     /*
+      * unstablePairs: Number of neighbouring elements with equal keys that are out of their original order, or -1 if
+      * equal elements can't be told apart (so stability doesn't apply). Once the elements are sorted, equal keys are
+      * neighbours, so 0 means the sort was stable.
+      */
+     public int unstablePairs() {
+         return -1;
+     }
+ 
+     /*
+      * Ints: The values themselves.
+      */
+     static final class Ints extends SortElements {
+         private final int[] values;
+         private int[] saved;
+ 
+         Ints(int[] values) {
+             this.values = values;
+         }
+ 
+         // Sets the value at index (e.g. a value that has just arrived from a stream).
+         void set(int index, int value) {
+             values[index] = value;
+         }
+ 
+         @Override
+         public String getType() {
+             return INT;
+         }
+ 
+         @Override
+         public int bytes() {
+             return Integer.BYTES;
+         }
+ 
+         @Override
+         public int length() {
+             return values.length;
+         }
+ 
+         @Override
+         public int height(int index) {
+             return values[index];
+         }
+ 
+         @Override
+         public int compare(int i, int j) {
+             return Integer.compare(values[i], values[j]);
+         }
+ 
+         @Override
+         public void swap(int i, int j) {
+             int temp = values[i];
+             values[i] = values[j];
+             values[j] = temp;
+         }
+ 
+         @Override
+         public void move(int to, int from) {
+             int moved = values[from];
+             System.arraycopy(values, to, values, to + 1, from - to);
+             values[to] = moved;
+         }
+ 
+         @Override
+         public void save(int low, int high) {
+             if (saved == null) saved = new int[values.length];
+             System.arraycopy(values, low, saved, low, high - low + 1);
+         }
+ 
+         @Override
+         public int compareSaved(int i, int j) {
+             return Integer.compare(saved[i], saved[j]);
+         }
+ 
+         @Override
+         public void restore(int index, int slot) {
+             values[index] = saved[slot];
+         }
+     }
+ 
+     /*
+      * Longs: Each value shifted into the high 32 bits, so every comparison and move works on 64 bits.
+      */
+     static final class Longs extends SortElements {
+         private final long[] values;
+         private long[] saved;
+ 
+         Longs(long[] values) {
+             this.values = values;
+         }
+ 
+         @Override
+         public String getType() {
+             return LONG;
+         }
+ 
+         @Override
+         public int bytes() {
+             return Long.BYTES;
+         }
+ 
+         @Override
+         public int length() {
+             return values.length;
+         }
+ 
+         @Override
+         public int height(int index) {
+             return (int) (values[index] >> 32);
+         }
+ 
+         @Override
+         public int compare(int i, int j) {
+             return Long.compare(values[i], values[j]);
+         }
+ 
+         @Override
+         public void swap(int i, int j) {
+             long temp = values[i];
+             values[i] = values[j];
+             values[j] = temp;
+         }
+ 
+         @Override
+         public void move(int to, int from) {
+             long moved = values[from];
+             System.arraycopy(values, to, values, to + 1, from - to);
+             values[to] = moved;
+         }
+ 
+         @Override
+         public void save(int low, int high) {
+             if (saved == null) saved = new long[values.length];
+             System.arraycopy(values, low, saved, low, high - low + 1);
+         }
+ 
+         @Override
+         public int compareSaved(int i, int j) {
+             return Long.compare(saved[i], saved[j]);
+         }
+ 
+         @Override
+         public void restore(int index, int slot) {
+             values[index] = saved[slot];
+         }
+     }
+ 
+     /*
+      * Doubles: Each value divided by DOUBLE_SCALE. The values are never NaN, so the primitive comparisons are exact.
+      */
+     static final class Doubles extends SortElements {
+         private final double[] values;
+         private double[] saved;
+ 
+         Doubles(double[] values) {
+             this.values = values;
+         }
+ 
+         @Override
+         public String getType() {
+             return DOUBLE;
+         }
+ 
+         @Override
+         public int bytes() {
+             return Double.BYTES;
+         }
+ 
+         @Override
+         public int length() {
+             return values.length;
+         }
+ 
+         @Override
+         public int height(int index) {
+             return (int) (values[index] * DOUBLE_SCALE);
+         }
+ 
+         @Override
+         public int compare(int i, int j) {
+             double a = values[i], b = values[j];
+             return a < b ? -1 : (a > b ? 1 : 0);
+         }
+ 
+         @Override
+         public void swap(int i, int j) {
+             double temp = values[i];
+             values[i] = values[j];
+             values[j] = temp;
+         }
+ 
+         @Override
+         public void move(int to, int from) {
+             double moved = values[from];
+             System.arraycopy(values, to, values, to + 1, from - to);
+             values[to] = moved;
+         }
+ 
+         @Override
+         public void save(int low, int high) {
+             if (saved == null) saved = new double[values.length];
+             System.arraycopy(values, low, saved, low, high - low + 1);
+         }
+ 
+         @Override
+         public int compareSaved(int i, int j) {
+             double a = saved[i], b = saved[j];
+             return a < b ? -1 : (a > b ? 1 : 0);
+         }
+ 
+         @Override
+         public void restore(int index, int slot) {
+             values[index] = saved[slot];
+         }
+     }
+ 
+     /*
+      * Keyed: Records of a key (the value) and a payload (the record's original position), compared by key only.
+      * The keys and payloads are kept in two arrays (not an array of objects), and move together.
+      */
+     static final class Keyed extends SortElements {
+         private final int[] keys, payloads;
+         private int[] savedKeys, savedPayloads;
+ 
+         Keyed(int[] keys, int[] payloads) {
+             this.keys = keys;
+             this.payloads = payloads;
+         }
+ 
+         @Override
+         public String getType() {
+             return KEYED;
+         }
+ 
+         @Override
+         public int bytes() {
+             return 2 * Integer.BYTES;
+         }
+ 
+         @Override
+         public int length() {
+             return keys.length;
+         }
+ 
+         @Override
+         public int height(int index) {
+             return keys[index];
+         }
+ 
+         @Override
+         public int compare(int i, int j) {
+             return Integer.compare(keys[i], keys[j]);
+         }
+ 
+         @Override
+         public void swap(int i, int j) {
+             int key = keys[i], payload = payloads[i];
+             keys[i] = keys[j];
+             payloads[i] = payloads[j];
+             keys[j] = key;
+             payloads[j] = payload;
+         }
+ 
+         @Override
+         public void move(int to, int from) {
+             int key = keys[from], payload = payloads[from];
+             System.arraycopy(keys, to, keys, to + 1, from - to);
+             System.arraycopy(payloads, to, payloads, to + 1, from - to);
+             keys[to] = key;
+             payloads[to] = payload;
+         }
+ 
+         @Override
+         public void save(int low, int high) {
+             if (savedKeys == null) {
+                 savedKeys = new int[keys.length];
+                 savedPayloads = new int[keys.length];
+             }
+             System.arraycopy(keys, low, savedKeys, low, high - low + 1);
+             System.arraycopy(payloads, low, savedPayloads, low, high - low + 1);
+         }
+ 
+         @Override
+         public int compareSaved(int i, int j) {
+             return Integer.compare(savedKeys[i], savedKeys[j]);
+         }
+ 
+         @Override
+         public void restore(int index, int slot) {
+             keys[index] = savedKeys[slot];
+             payloads[index] = savedPayloads[slot];
+         }
+ 
+         @Override
+         public int unstablePairs() {
+             int pairs = 0;
+             for (int i = 1; i < keys.length; i++) {
+                 if (keys[i - 1] == keys[i] && payloads[i - 1] > payloads[i]) pairs++;
+             }
+             return pairs;
+         }
+     }
+ }
@@ -0,0 +1,151 @@
+/*
+ * SortEvents.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.IOException;
+ import java.nio.file.Path;
+ import java.util.List;
+ import jdk.jfr.Category;
+ import jdk.jfr.Description;
+ import jdk.jfr.Event;
+ import jdk.jfr.Label;
+ import jdk.jfr.Name;
+ import jdk.jfr.Recording;
+ import jdk.jfr.RecordingState;
+ import jdk.jfr.Timespan;
+ 
+ /*
+  * SortEvents holds the Java Flight Recorder events the visualizer emits, so a recording shows where the time goes
+  * between the recorder, the step clock and the painter:
+      * Record  -> one sort recorded by SortRecorder (the time spent sorting headless)
+      * Tick    -> one step clock tick, replaying a batch of steps and publishing their frame (the time spent stepping)
+      * Delay   -> the wait between two ticks that paces the replay (the time spent sleeping)
+      * Pause   -> the replay paused by the user
+      * Repaint -> a repaint requested for a strip of the panel
+      * Paint   -> one paintComponent call (the time spent painting)
+  * Steps are traced per tick rather than one event each: a tick replays up to thousands of steps, and an event per
+  * step would cost more than the step itself. Events are only written while a flight recording is running (started
+  * with -XX:StartFlightRecording, or with -Dvisualizer.trace=FILE, see startTrace); otherwise they cost next to nothing.
+  */
+ public final class SortEvents {
+ 
+     private static final String CATEGORY = "Algorithm Visualizer";
+ 
+     // Every event type, enabled together by startTrace.
+     static final List<Class<? extends Event>> TYPES = List.of(Record.class, Tick.class, Delay.class, Pause.class, Repaint.class, Paint.class);
+ 
+     // How long the trace waits for the JVM's own shutdown hook to finish writing the recording.
+     private static final long CLOSE_WAIT_MILLIS = 5000;
+ 
+     private SortEvents() {
+     }
+ 
+     @Name("AlgorithmVisualizer.Record")
+     @Label("Sort Recorded")
+     @Category(CATEGORY)
+     @Description("A sort run headless by the recorder, from the first step to the last (or until it was cancelled)")
+     public static class Record extends Event {
+         @Label("Algorithm")
+         public String algorithm;
+ 
+         @Label("Element Type")
+         public String elements;
+ 
+         @Label("Values")
+         public int values;
+ 
+         @Label("Steps")
+         public long steps;
+ 
+         @Label("Finished")
+         public boolean finished;
+     }
+ 
+     @Name("AlgorithmVisualizer.Tick")
+     @Label("Step Clock Tick")
+     @Category(CATEGORY)
+     @Description("One tick of the step clock: a batch of steps replayed onto the array, then published as a frame")
+     public static class Tick extends Event {
+         @Label("Steps")
+         public int steps;
+ 
+         @Label("Step Budget")
+         public int budget;
+     }
+ 
+     @Name("AlgorithmVisualizer.Delay")
+     @Label("Step Clock Delay")
+     @Category(CATEGORY)
+     @Description("The wait between two ticks of the step clock that paces the replay")
+     public static class Delay extends Event {
+         @Label("Planned")
+         @Timespan(Timespan.NANOSECONDS)
+         public long planned;
+     }
+ 
+     @Name("AlgorithmVisualizer.Pause")
+     @Label("Sort Paused")
+     @Category(CATEGORY)
+     @Description("The replay paused by the user, until it was resumed or reset")
+     public static class Pause extends Event {
+         @Label("Step")
+         public long step;
+     }
+ 
+     @Name("AlgorithmVisualizer.Repaint")
+     @Label("Repaint Requested")
+     @Category(CATEGORY)
+     @Description("A repaint requested for the strip of the panel between left and right (exclusive)")
+     public static class Repaint extends Event {
+         @Label("Left")
+         public int left;
+ 
+         @Label("Right")
+         public int right;
+     }
+ 
+     @Name("AlgorithmVisualizer.Paint")
+     @Label("Panel Painted")
+     @Category(CATEGORY)
+     @Description("One paint of the panel: the changed bars rendered into the back buffer and copied to the screen")
+     public static class Paint extends Event {
+         @Label("Frame Version")
+         public long version;
+ 
+         @Label("Clip Width")
+         public int clipWidth;
+     }
+ 
+     /*
+      * startTrace: Starts a flight recording of just these events (no thresholds, no stack traces), written to the
+      * given file when the program exits, then prints a summary of where the time went (see TraceReport).
+      */
+     public static void startTrace(Path file) throws IOException {
+         Recording recording = new Recording();
+         recording.setName("Algorithm Visualizer trace");
+         for (Class<? extends Event> type : TYPES) {
+             recording.enable(type).withoutThreshold().withoutStackTrace();
+         }
+         recording.setDestination(file);
+         recording.setDumpOnExit(true);
+         recording.start();
+ 
+         // The flight recorder's own shutdown hook writes the recording and then closes it (stopping it from another
+         // hook would race with that), so the summary waits for it to close.
+         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+             try {
+                 long deadline = System.currentTimeMillis() + CLOSE_WAIT_MILLIS;
+                 while (recording.getState() != RecordingState.CLOSED && System.currentTimeMillis() < deadline) {
+                     Thread.sleep(5);
+                 }
+                 TraceReport.summarize(file).print(System.out);
+             } catch (IOException | InterruptedException e) {
+                 System.err.println("Could not summarize the trace in " + file + ": " + e.getMessage());
+             }
+         }, "trace-summary"));
+     }
+ }
@@ -0,0 +1,227 @@
+/*
+ * SortMetrics.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.lang.management.ManagementFactory;
+ import javax.management.JMException;
+ import javax.management.ObjectName;
+ 
+ /*
+  * SortMetrics collects live numbers about a running sort from both sides of the frame handoff: the replay
+  * reports every frame it publishes, and the painter reports every paint. Comparing the two shows whether
+  * the sorter or the painter is the limiting factor:
+     * stepsRecorded far ahead of stepsReplayed -> the replay (its pacing) is holding the sort back
+     * framesDropped growing quickly            -> the painter can't keep up with the published frames
+  * Every getter can be called from any thread (the overlay, JMX, or a benchmark).
+  */
+ public class SortMetrics implements SortMetricsMBean {
+ 
+     // Name the metrics are registered under in JMX.
+     public static final String OBJECT_NAME = "AlgorithmVisualizer:type=SortMetrics";
+ 
+     // Shortest window the rates are averaged over.
+     private static final long RATE_WINDOW_NANOS = 500_000_000L;
+ 
+     // Replay progress, written by whichever thread publishes a frame (publishes are serialized by the panel).
+     private volatile long comparisons, shifts, swaps, writes, stepsReplayed, stepsRecorded, framesPublished;
+     private volatile boolean recordingFinished;
+ 
+     /*
+      * Painter statistics, written by the painting thread only:
+         * framesPainted -> distinct frames that were painted at least once
+         * framesDropped -> frames that were published but replaced before the painter got to them
+         * paints        -> calls to paintComponent (a frame can take several clipped paints)
+         * paintNanos    -> total time spent painting
+         * lastVersion   -> version of the last frame painted
+      */
+     private volatile long framesPainted, framesDropped, paints, paintNanos;
+     private long lastVersion;
+ 
+     /*
+      * Running time and rates (guarded by this):
+         * runningSince    -> when the sort last started or resumed, or -1 while paused
+         * elapsedNanos    -> running time before runningSince
+         * windowStart     -> start of the current rate window, with the step and frame counts at that time
+         * stepsPerSecond  -> replay rate over the last full window
+         * framesPerSecond -> paint rate over the last full window
+      */
+     private long runningSince = -1, elapsedNanos;
+     private long windowStart = System.nanoTime(), windowSteps, windowFrames;
+     private double stepsPerSecond, framesPerSecond;
+ 
+     /*
+      * published: Records a frame published by the replay: the counters and position it shows, and how far the recorder is.
+      */
+     public void published(SortCounters counters, long position, StepLog log) {
+         comparisons = counters.getComparisons();
+         shifts = counters.getShifts();
+         swaps = counters.getSwaps();
+         writes = counters.getWrites();
+         stepsReplayed = position;
+         if (log != null) {
+             stepsRecorded = log.size();
+             recordingFinished = log.isFinished();
+         }
+         framesPublished = framesPublished + 1;
+     }
+ 
+     /*
+      * painted: Records one paint of the frame with the given version, which took the given time. Versions that were
+      * skipped since the last painted frame count as dropped; a lower version means the frames were started over.
+      */
+     public void painted(long version, long nanos) {
+         paints = paints + 1;
+         paintNanos = paintNanos + nanos;
+         if (version > lastVersion) {
+             framesPainted = framesPainted + 1;
+             framesDropped = framesDropped + (version - lastVersion - 1);
+         }
+         lastVersion = version;
+     }
+ 
+     /*
+      * start: Starts timing a new sort. pause and resume stop and restart the running time.
+      */
+     public synchronized void start() {
+         elapsedNanos = 0;
+         runningSince = System.nanoTime();
+     }
+ 
+     public synchronized void pause() {
+         if (runningSince < 0) return;
+         elapsedNanos += System.nanoTime() - runningSince;
+         runningSince = -1;
+     }
+ 
+     public synchronized void resume() {
+         if (runningSince < 0) runningSince = System.nanoTime();
+     }
+ 
+     @Override
+     public synchronized void reset() {
+         comparisons = 0;
+         shifts = 0;
+         swaps = 0;
+         writes = 0;
+         stepsReplayed = 0;
+         stepsRecorded = 0;
+         recordingFinished = false;
+         framesPublished = 0;
+         framesPainted = 0;
+         framesDropped = 0;
+         paints = 0;
+         paintNanos = 0;
+         runningSince = -1;
+         elapsedNanos = 0;
+         windowStart = System.nanoTime();
+         windowSteps = 0;
+         windowFrames = 0;
+         stepsPerSecond = 0;
+         framesPerSecond = 0;
+     }
+ 
+     // Starts a new rate window once the current one is long enough, computing the rates over it.
+     private synchronized void updateRates() {
+         long now = System.nanoTime(), window = now - windowStart;
+         if (window < RATE_WINDOW_NANOS) return;
+         long steps = stepsReplayed, frames = framesPainted;
+         stepsPerSecond = Math.max(0, steps - windowSteps) * 1e9 / window;
+         framesPerSecond = Math.max(0, frames - windowFrames) * 1e9 / window;
+         windowStart = now;
+         windowSteps = steps;
+         windowFrames = frames;
+     }
+ 
+     /*
+      * registerMBean: Registers these metrics with the platform MBean server under OBJECT_NAME.
+      */
+     public void registerMBean() {
+         try {
+             ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+         } catch (JMException e) {
+             throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+         }
+     }
+ 
+     @Override
+     public long getComparisons() {
+         return comparisons;
+     }
+ 
+     @Override
+     public long getShifts() {
+         return shifts;
+     }
+ 
+     @Override
+     public long getSwaps() {
+         return swaps;
+     }
+ 
+     @Override
+     public long getWrites() {
+         return writes;
+     }
+ 
+     @Override
+     public long getStepsReplayed() {
+         return stepsReplayed;
+     }
+ 
+     @Override
+     public long getStepsRecorded() {
+         return stepsRecorded;
+     }
+ 
+     @Override
+     public boolean isRecordingFinished() {
+         return recordingFinished;
+     }
+ 
+     @Override
+     public synchronized long getElapsedMillis() {
+         long nanos = elapsedNanos + (runningSince < 0 ? 0 : System.nanoTime() - runningSince);
+         return nanos / 1_000_000;
+     }
+ 
+     @Override
+     public double getStepsPerSecond() {
+         updateRates();
+         synchronized (this) {
+             return stepsPerSecond;
+         }
+     }
+ 
+     @Override
+     public double getFramesPerSecond() {
+         updateRates();
+         synchronized (this) {
+             return framesPerSecond;
+         }
+     }
+ 
+     @Override
+     public long getFramesPublished() {
+         return framesPublished;
+     }
+ 
+     @Override
+     public long getFramesPainted() {
+         return framesPainted;
+     }
+ 
+     @Override
+     public long getFramesDropped() {
+         return framesDropped;
+     }
+ 
+     @Override
+     public double getAveragePaintMillis() {
+         long count = paints;
+         return count == 0 ? 0 : paintNanos / 1e6 / count;
+     }
+ }
@@ -0,0 +1,53 @@
+/*
+ * SortMetricsMBean.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortMetricsMBean is the JMX view of SortMetrics (a standard MBean), so the live counters can be
+  * watched from JConsole or VisualVM while a sort runs.
+  */
+ public interface SortMetricsMBean {
+ 
+     // Cost of the steps replayed so far.
+     long getComparisons();
+ 
+     long getShifts();
+ 
+     long getSwaps();
+ 
+     long getWrites();
+ 
+     // Steps replayed onto the panel, and steps recorded by the sorter (the replay can never pass the recorder).
+     long getStepsReplayed();
+ 
+     long getStepsRecorded();
+ 
+     // Whether the sorter has recorded its last step.
+     boolean isRecordingFinished();
+ 
+     // Time spent running (not paused) since the sort started, in milliseconds.
+     long getElapsedMillis();
+ 
+     // Steps replayed per second over the last sampling window.
+     double getStepsPerSecond();
+ 
+     // Frames painted per second over the last sampling window.
+     double getFramesPerSecond();
+ 
+     // Frames published by the replay, painted, and dropped (replaced by a newer frame before they were painted).
+     long getFramesPublished();
+ 
+     long getFramesPainted();
+ 
+     long getFramesDropped();
+ 
+     // Average time spent in paintComponent per paint, in milliseconds.
+     double getAveragePaintMillis();
+ 
+     // Clears every counter.
+     void reset();
+ }
@@ -0,0 +1,254 @@
+/*
+ * SortRecorder.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.concurrent.CancellationException;
+ 
+ /*
+  * SortRecorder runs a sort headless and at full speed (no painting, no delays),
+  * recording every visual step into a StepLog. The visualizer then replays the log,
+  * so large runs can be precomputed in milliseconds and replayed at any speed.
+  * Algorithms operate on the recorder's private copy of the elements (see SortElements) through the
+  * methods below, which both perform the operation and record it as a step.
+  */
+ public final class SortRecorder {
+ 
+     // Check for a cancelled recording once every 2^12 steps.
+     private static final int CANCEL_CHECK_MASK = (1 << 12) - 1;
+ 
+     // Working copy of the elements being sorted, and where its steps are recorded.
+     private final SortElements elements;
+     private final StepLog log;
+ 
+     // Totals for every step recorded so far.
+     private final SortCounters counters = new SortCounters();
+ 
+     private SortRecorder(SortElements elements, StepLog log) {
+         this.elements = elements;
+         this.log = log;
+     }
+ 
+     /*
+      * record: Sorts a copy of the given values with the given algorithm and returns the steps taken.
+      */
+     public static StepLog record(SortAlgorithm algorithm, int[] values) {
+         StepLog log = new HeapStepLog();
+         record(algorithm, values, log);
+         return log;
+     }
+ 
+     /*
+      * record: Same as above, but appends the steps to the given log as they are produced so another
+      * thread can replay them while recording is still running. Returns the totals for the run, or null
+      * if the recording thread was interrupted (in which case the log is left unfinished). If the recording
+      * fails (e.g. it runs out of room for its steps), the log is failed with the error, which is thrown.
+      */
+     public static SortCounters record(SortAlgorithm algorithm, int[] values, StepLog log) {
+         return record(algorithm, SortElements.of(SortElements.INT, values), log);
+     }
+ 
+     /*
+      * record: Same as above, but sorts the given elements (of any type, see SortElements) in place. The FINISH step
+      * holds the number of equal keys the sort left out of their original order (or -1 if that can't be told).
+      */
+     public static SortCounters record(SortAlgorithm algorithm, SortElements elements, StepLog log) {
+         int length = elements.length();
+         if (length > SortStep.MAX_INDEX) {
+             throw new IllegalArgumentException("Too many values to record: " + length);
+         }
+         for (int i = 0; i < length; i++) {
+             int value = elements.height(i);
+             if (value < 0 || value > SortStep.MAX_INDEX) {
+                 throw new IllegalArgumentException("Value out of range for recording: " + value);
+             }
+         }
+ 
+         SortRecorder recorder = new SortRecorder(elements, log);
+         SortEvents.Record event = new SortEvents.Record();
+         event.begin();
+         try {
+             algorithm.sort(recorder);
+             recorder.add(SortStep.FINISH, Math.min(elements.unstablePairs(), SortStep.MAX_INDEX), -1);
+             log.finish();
+             event.finished = true;
+             return recorder.counters;
+         } catch (CancellationException e) {
+             return null;
+         } catch (RuntimeException e) {
+             log.fail(e);
+             throw e;
+         } finally {
+             if (event.shouldCommit()) {
+                 event.algorithm = algorithm.getName();
+                 event.elements = elements.getType();
+                 event.values = length;
+                 event.steps = log.size();
+                 event.commit();
+             }
+         }
+     }
+ 
+     /*
+      * record: Records an insertion sort of values that arrive from a stream, one pass for each value as it arrives,
+      * so the values received so far are always sorted. Each value is first recorded as an APPEND step at the end of
+      * the sorted values, then inserted. Stops once capacity values have arrived (the rest of the stream is left
+      * unread) or the stream ends, then records FINISH. Returns the totals for the run, or null if the recording
+      * thread was interrupted (in which case the log is left unfinished). Fails the log like the record above.
+      */
+     public static SortCounters record(ValueStream stream, int capacity, StepLog log) {
+         if (capacity > SortStep.MAX_INDEX) {
+             throw new IllegalArgumentException("Too many values to record: " + capacity);
+         }
+ 
+         SortElements.Ints window = new SortElements.Ints(new int[capacity]);
+         SortRecorder recorder = new SortRecorder(window, log);
+         SortEvents.Record event = new SortEvents.Record();
+         event.begin();
+         int length = 0;
+         try {
+             for (int value; length < capacity && (value = stream.take()) != ValueStream.END; length++) {
+                 window.set(length, value);
+                 recorder.add(SortStep.APPEND, length, value);
+                 InsertionSort.insert(recorder, length);
+             }
+             recorder.add(SortStep.FINISH, -1, -1);
+             log.finish();
+             event.finished = true;
+             return recorder.counters;
+         } catch (CancellationException e) {
+             return null;
+         } catch (InterruptedException e) {
+             Thread.currentThread().interrupt();
+             return null;
+         } catch (RuntimeException e) {
+             log.fail(e);
+             throw e;
+         } finally {
+             if (event.shouldCommit()) {
+                 event.algorithm = "Insertion Sort (streamed)";
+                 event.elements = window.getType();
+                 event.values = length;
+                 event.steps = log.size();
+                 event.commit();
+             }
+         }
+     }
+ 
+     /*
+      * add: Records a single step, checking periodically whether the recording has been cancelled.
+      */
+     private void add(int opcode, int a, int b) {
+         long step = SortStep.of(opcode, a, b);
+         log.add(step);
+         counters.count(step);
+         if ((log.size() & CANCEL_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+             throw new CancellationException("Recording cancelled");
+         }
+     }
+ 
+     // Number of elements being sorted.
+     public int length() {
+         return elements.length();
+     }
+ 
+     /*
+      * exceeds: Whether the element at i is greater than the element at j, without recording a step (for a comparison
+      * that another step already stands for, like the one a KEY or SHIFT step makes).
+      */
+     public boolean exceeds(int i, int j) {
+         return elements.compare(i, j) > 0;
+     }
+ 
+     /*
+      * compare: Compares the elements at i and j (negative, zero or positive, like Integer.compare).
+      */
+     public int compare(int i, int j) {
+         add(SortStep.COMPARE, i, j);
+         return elements.compare(i, j);
+     }
+ 
+     /*
+      * swap: Exchanges the elements at i and j.
+      */
+     public void swap(int i, int j) {
+         elements.swap(i, j);
+         add(SortStep.SWAP, i, j);
+     }
+ 
+     /*
+      * save: Saves a copy of the elements low..high (e.g. into a merge buffer) without recording a step (copies are free,
+      * writes are not). Each element is saved to the slot of the same index.
+      */
+     public void save(int low, int high) {
+         elements.save(low, high);
+     }
+ 
+     /*
+      * compareSaved: Compares the saved copies in slots i and j, recording the comparison as being between
+      * the positions i and j they were saved from.
+      */
+     public int compareSaved(int i, int j) {
+         add(SortStep.COMPARE, i, j);
+         return elements.compareSaved(i, j);
+     }
+ 
+     /*
+      * restore: Writes the saved copy in the given slot back to index (recorded as a WRITE of its value).
+      */
+     public void restore(int index, int slot) {
+         elements.restore(index, slot);
+         add(SortStep.WRITE, index, elements.height(index));
+     }
+ 
+     /*
+      * probe: Compares the element at probe with the key at keyIndex as one probe of a binary search
+      * (negative, zero or positive, like compare).
+      */
+     public int probe(int probe, int keyIndex) {
+         add(SortStep.PROBE, probe, keyIndex);
+         return elements.compare(probe, keyIndex);
+     }
+ 
+     /*
+      * move: Moves the element at from down to index to, moving the block to..from - 1 up one place with a single
+      * array copy (one step, instead of a shift or swap per element).
+      */
+     public void move(int to, int from) {
+         elements.move(to, from);
+         add(SortStep.MOVE, to, from);
+     }
+ 
+     /*
+      * range: Marks the subarray low..high as the part of the array currently being worked on.
+      */
+     public void range(int low, int high) {
+         add(SortStep.RANGE, low, high);
+     }
+ 
+     /*
+      * boundary: Marks everything before the given index as sorted.
+      */
+     public void boundary(int index) {
+         add(SortStep.BOUNDARY, index, -1);
+     }
+ 
+     /*
+      * key: Picks up the element at keyIndex as the insertion KEY, first comparing it with comparisonIndex (-1 for none).
+      */
+     public void key(int keyIndex, int comparisonIndex) {
+         add(SortStep.KEY, keyIndex, comparisonIndex);
+     }
+ 
+     /*
+      * shift: Moves the key from j + 1 down to j (the element at j moves up), next comparing it with
+      * the element at j - 1 if there is one.
+      */
+     public void shift(int j) {
+         elements.swap(j, j + 1);
+         add(SortStep.SHIFT, j, j - 1);
+     }
+ }
@@ -0,0 +1,33 @@
+/*
+ * SortState.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortState is the state of a panel's sort. It only changes through these transitions:
+     * WAITING  -> RUNNING  : the sort is started
+     * RUNNING  -> PAUSED   : the replay is paused
+     * PAUSED   -> RUNNING  : the replay is resumed
+     * RUNNING  -> FINISHED : the last step is replayed
+     * PAUSED   -> FINISHED : seeking to the last step of a complete sort
+     * FINISHED -> PAUSED   : seeking back from the end
+     * any      -> WAITING  : the sort is reset (cancelling the replay and recording, if any)
+  * Transitions are made with a compare-and-set on the current state, so a click and a replay tick can
+  * never both act on the same state (e.g. pausing a sort that has just finished does nothing).
+  */
+ public enum SortState {
+     WAITING, RUNNING, PAUSED, FINISHED;
+ 
+     // Whether a sort has been started and not reset yet (it has a replay that can be paused, resumed or sought).
+     public boolean isStarted() {
+         return this != WAITING;
+     }
+ 
+     // Whether the replay is stopped on a step that can be sought from (PAUSED or FINISHED).
+     public boolean isStopped() {
+         return this == PAUSED || this == FINISHED;
+     }
+ }
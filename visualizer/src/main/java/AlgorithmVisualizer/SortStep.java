@@ -0,0 +1,66 @@
+/*
+ * SortStep.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * SortStep packs a single step of a recorded sort into one primitive long, so that
+  * an entire run can be stored without allocating an object per event.
+  * Bit layout of a step (high bits -> low bits):
+     * opcode -> 4 bits  (what kind of event the step is)
+     * a      -> 30 bits (first index argument, stored as index + 1 so that -1 fits)
+     * b      -> 30 bits (second index argument, stored as index + 1 so that -1 fits)
+  */
+ public final class SortStep {
+ 
+     /*
+      * Opcodes for each kind of step. Every step corresponds to exactly one frame of the animation.
+         * BOUNDARY -> sorted boundary moved to index a, nothing is being compared
+         * KEY      -> element a becomes the KEY, first comparison is against index b
+         * SHIFT    -> key moved from a + 1 down to a (adjacent swap), next comparison is against index b
+         * FINISH   -> the whole array is sorted; a is the number of equal keys left out of their original order
+         *             (0 for a stable sort), or -1 if equal elements can't be told apart
+         * COMPARE  -> element a is compared with element b
+         * SWAP     -> elements a and b are swapped
+         * WRITE    -> value b is written to index a (e.g. copied back from a merge buffer)
+         * RANGE    -> the algorithm is working on the subarray a..b (a merge, a partition, a heap)
+         * PROBE    -> binary search probe: element a is compared with the key at index b
+         * MOVE     -> block move: the element at b moves down to a, and the block a..b - 1 moves up one place
+         * APPEND   -> value b arrives from a stream at index a, the end of the values received so far
+      */
+     public static final int BOUNDARY = 0, KEY = 1, SHIFT = 2, FINISH = 3, COMPARE = 4, SWAP = 5, WRITE = 6, RANGE = 7;
+     public static final int PROBE = 8, MOVE = 9, APPEND = 10;
+ 
+     // Largest index (and largest WRITE or APPEND value) that can be stored in a 30 bit argument (one value is reserved for -1).
+     public static final int MAX_INDEX = (1 << 30) - 2;
+ 
+     // Masks and shifts used to pack/unpack the step.
+     private static final int OPCODE_SHIFT = 60, A_SHIFT = 30;
+     private static final long ARG_MASK = (1L << 30) - 1;
+ 
+     private SortStep() {
+     }
+ 
+     /*
+      * of: Packs an opcode and its two index arguments into a single step.
+      */
+     public static long of(int opcode, int a, int b) {
+         return ((long) opcode << OPCODE_SHIFT) | ((long) (a + 1) << A_SHIFT) | (b + 1);
+     }
+ 
+     // Unpack each field of a step.
+     public static int opcode(long step) {
+         return (int) (step >>> OPCODE_SHIFT);
+     }
+ 
+     public static int a(long step) {
+         return (int) ((step >>> A_SHIFT) & ARG_MASK) - 1;
+     }
+ 
+     public static int b(long step) {
+         return (int) (step & ARG_MASK) - 1;
+     }
+ }
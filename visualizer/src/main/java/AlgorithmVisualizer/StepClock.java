@@ -0,0 +1,193 @@
+/*
+ * StepClock.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.concurrent.ScheduledExecutorService;
+ import java.util.concurrent.ScheduledFuture;
+ import java.util.concurrent.TimeUnit;
+ import java.util.function.Supplier;
+ 
+ /*
+  * StepClock advances a replay one step per tick on a ScheduledExecutorService, instead of
+  * a thread sleeping between steps. Pausing cancels the next tick (nothing wakes up while paused),
+  * and a new period takes effect immediately by rescheduling the pending tick.
+  * Periods shorter than MIN_TICK_NANOS are paced by running several steps per tick, so the average
+  * step rate stays exact without waking up more than about once per millisecond.
+  * The clock can also tick once per animation frame with a fixed budget of steps (setStepsPerFrame),
+  * so the work per frame is predictable no matter how fast the steps could be replayed.
+  * A tick ends early once no step is ready yet (e.g. the replay has caught up with a recording that is still
+  * running), so it never spends its budget waiting for steps, and the frame is published on time.
+  */
+ public class StepClock {
+ 
+     // Shortest time between ticks; faster periods batch several steps into one tick.
+     private static final long MIN_TICK_NANOS = 1_000_000;
+ 
+     // Steps per tick when there is no delay at all (the fastest speed).
+     private static final int MAX_BURST = 4096;
+ 
+     /*
+      * Result of advancing the replay one step:
+         * STEPPED   -> a step was taken, and there may be more
+         * NOT_READY -> no step is ready yet, so the tick ends and the next tick tries again
+         * DONE      -> there are no more steps, so the clock stops
+      */
+     public enum Advance { STEPPED, NOT_READY, DONE }
+ 
+     private final ScheduledExecutorService scheduler;
+ 
+     // Advances one step.
+     private final Supplier<Advance> step;
+ 
+     // Runs after the steps of each tick (e.g. to publish the frame they produced), or null.
+     private final Runnable afterTick;
+ 
+     /*
+      * Clock state (guarded by this):
+         * stepsPerTick -> steps taken by each tick
+         * tickNanos    -> time between ticks
+         * running      -> whether ticks are being scheduled (false while paused or stopped)
+         * lastTick     -> when the last tick ran, used to reschedule when the pacing changes
+         * pending      -> the next scheduled tick
+         * delay        -> flight recorder event timing the wait for the next tick (see SortEvents)
+      */
+     private int stepsPerTick;
+     private long tickNanos;
+     private boolean running = false;
+     private long lastTick;
+     private ScheduledFuture<?> pending;
+     private SortEvents.Delay delay;
+ 
+     public StepClock(ScheduledExecutorService scheduler, Supplier<Advance> step, long periodNanos) {
+         this(scheduler, step, null, periodNanos);
+     }
+ 
+     public StepClock(ScheduledExecutorService scheduler, Supplier<Advance> step, Runnable afterTick, long periodNanos) {
+         this.scheduler = scheduler;
+         this.step = step;
+         this.afterTick = afterTick;
+         setPeriod(periodNanos);
+     }
+ 
+     /*
+      * start: Starts (or resumes) ticking, taking the first step right away.
+      */
+     public synchronized void start() {
+         if (running) return;
+         running = true;
+         lastTick = System.nanoTime() - tickNanos;
+         schedule(0);
+     }
+ 
+     /*
+      * pause: Stops ticking by cancelling the next tick. A tick that is already running finishes its step.
+      */
+     public synchronized void pause() {
+         running = false;
+         delay = null; // Paused rather than paced
+         if (pending != null) {
+             pending.cancel(false);
+             pending = null;
+         }
+     }
+ 
+     // Whether the clock is currently ticking.
+     public synchronized boolean isRunning() {
+         return running;
+     }
+ 
+     /*
+      * setPeriod: Changes the time between steps. If the clock is running the pending tick is
+      * rescheduled so the new speed applies immediately.
+      */
+     public void setPeriod(long nanos) {
+         long period = Math.max(0, nanos);
+         int steps = period == 0 ? MAX_BURST : (int) Math.max(1, MIN_TICK_NANOS / period);
+         setPacing(steps, period * steps);
+     }
+ 
+     /*
+      * setFramesPerStep: Holds each step on screen for the given number of frames at the given frame rate.
+      */
+     public void setFramesPerStep(int framesPerStep, int framesPerSecond) {
+         setPeriod(TimeUnit.SECONDS.toNanos(framesPerStep) / framesPerSecond);
+     }
+ 
+     /*
+      * setStepsPerFrame: Ticks once per frame at the given frame rate, taking a fixed budget of steps each tick.
+      */
+     public void setStepsPerFrame(int stepsPerFrame, int framesPerSecond) {
+         setPacing(Math.max(1, stepsPerFrame), TimeUnit.SECONDS.toNanos(1) / framesPerSecond);
+     }
+ 
+     // Sets the steps per tick and the time between ticks, rescheduling the pending tick if running.
+     private synchronized void setPacing(int steps, long nanos) {
+         stepsPerTick = steps;
+         tickNanos = nanos;
+         if (running && pending != null) {
+             pending.cancel(false);
+             schedule(Math.max(0, lastTick + tickNanos - System.nanoTime()));
+         }
+     }
+ 
+     // Schedules the next tick after the given delay, timing the wait for the flight recorder (must hold the lock).
+     private void schedule(long delayNanos) {
+         pending = scheduler.schedule(this::tick, delayNanos, TimeUnit.NANOSECONDS);
+         if (delay == null) {
+             delay = new SortEvents.Delay();
+             delay.begin();
+         }
+         delay.planned = delayNanos;
+     }
+ 
+     /*
+      * tick: Takes this tick's budget of steps (or as many as are ready), runs afterTick once for all of them, then
+      * schedules the next tick.
+      */
+     private void tick() {
+         int steps;
+         long nanos;
+         SortEvents.Delay waited;
+         synchronized (this) {
+             if (!running) return;
+             steps = stepsPerTick;
+             nanos = tickNanos;
+             lastTick = System.nanoTime();
+             waited = delay;
+             delay = null;
+         }
+         if (waited != null) waited.commit();
+ 
+         SortEvents.Tick event = new SortEvents.Tick();
+         event.begin();
+         Advance result = Advance.STEPPED;
+         int taken = 0;
+         while (taken < steps && result == Advance.STEPPED) {
+             result = step.get();
+             if (result != Advance.NOT_READY) taken++;
+         }
+         if (afterTick != null) afterTick.run();
+         if (event.shouldCommit()) {
+             event.steps = taken;
+             event.budget = steps;
+             event.commit();
+         }
+ 
+         if (result == Advance.DONE) {
+             synchronized (this) {
+                 running = false;
+                 pending = null;
+             }
+             return;
+         }
+ 
+         synchronized (this) {
+             if (!running) return;
+             schedule(Math.max(0, lastTick + nanos - System.nanoTime()));
+         }
+     }
+ }
@@ -0,0 +1,212 @@
+/*
+ * StepLog.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.IOException;
+ import java.io.UncheckedIOException;
+ import java.util.concurrent.ForkJoinPool;
+ import java.util.concurrent.TimeUnit;
+ import java.util.concurrent.locks.Condition;
+ import java.util.concurrent.locks.ReentrantLock;
+ 
+ /*
+  * StepLog is an append-only list of packed SortStep values, one fixed-size long per step.
+  * Subclasses only decide where the steps are stored:
+     * HeapStepLog   -> long[] chunks on the heap (the default)
+     * MappedStepLog -> a memory-mapped file, for runs that outgrow the heap (read back without copying)
+  * One thread records while others replay: the size is published after each step is
+  * written, so any step below size() is safe to read from another thread.
+  * A heap log holds at most HeapStepLog.MAX_STEPS steps, and a mapped log as many as its disk has room for.
+  * A recording that runs out of room for its steps stops with an error instead of filling the heap or the disk,
+  * and fails the log so its readers see why it ended.
+  */
+ public abstract class StepLog {
+ 
+     // Readers waiting for more steps are woken every 2^16 steps.
+     private static final int SIGNAL_MASK = (1 << 16) - 1;
+ 
+     /*
+      * Sorts expected to take at least this many steps (64 MB) are recorded to a memory-mapped file by forSort:
+      * insertion sort passes it at about 5,800 values, the O(n log n) sorts only at hundreds of thousands.
+      */
+     static final long MAPPED_THRESHOLD = 1L << 23;
+ 
+     // Number of steps written so far.
+     private volatile long size = 0;
+ 
+     // Set once the recorder has written its last step, or has failed.
+     private volatile boolean finished = false;
+ 
+     // Error that stopped the recording before its last step, or null.
+     private volatile RuntimeException failure;
+ 
+     /*
+      * Readers waiting for more steps are woken once every SIGNAL_MASK + 1 steps (and when the log finishes), not on every step.
+      * A lock rather than a monitor, so a reader on a virtual thread unmounts while it waits instead of pinning its carrier.
+      */
+     private final ReentrantLock growthLock = new ReentrantLock();
+     private final Condition grown = growthLock.newCondition();
+ 
+     /*
+      * forSort: Creates an empty log for recording the given algorithm sorting length values, by the steps it is
+      * expected to take (see checkSteps): on the heap for short runs, in a temporary memory-mapped file from
+      * MAPPED_THRESHOLD steps on. Setting the visualizer.stepLog property to heap or mapped overrides the choice.
+      */
+     public static StepLog forSort(SortAlgorithm algorithm, int length) {
+         long steps = checkSteps(algorithm, length);
+         if (!recordsMapped(steps)) return new HeapStepLog();
+         try {
+             return new MappedStepLog();
+         } catch (IOException | UncheckedIOException e) {
+             // No room for a temporary file: record on the heap instead, if the steps fit in a quarter of it.
+             if (steps * Long.BYTES < Runtime.getRuntime().maxMemory() / 4) return new HeapStepLog();
+             throw new IllegalArgumentException("Could not create a temporary file to record the sort to: " + e.getMessage(), e);
+         }
+     }
+ 
+     // Whether forSort records a run of the given steps to a memory-mapped file.
+     private static boolean recordsMapped(long steps) {
+         return System.getProperty("visualizer.stepLog", steps >= MAPPED_THRESHOLD ? "mapped" : "heap").equalsIgnoreCase("mapped");
+     }
+ 
+     /*
+      * checkSteps: Returns the steps the given algorithm is expected to take on length values, throwing an
+      * IllegalArgumentException if that is more than the log forSort picks can hold (HeapStepLog.MAX_STEPS on the
+      * heap, or as many as the disk has room for, see MappedStepLog.roomForSteps), so a run too long to record is
+      * refused before it starts rather than stopped once it has filled the log.
+      */
+     public static long checkSteps(SortAlgorithm algorithm, int length) {
+         long steps = algorithm.estimateSteps(length);
+         boolean mapped = recordsMapped(steps);
+         long room = mapped ? MappedStepLog.roomForSteps() : HeapStepLog.MAX_STEPS;
+         if (steps > room) {
+             throw new IllegalArgumentException(String.format("%s on %,d values takes about %,d steps, more than the %,d %s. "
+                     + "Use fewer values or a faster algorithm.", algorithm.getName(), length, steps, room,
+                     mapped ? "there is disk space to record" : "that can be recorded on the heap"));
+         }
+         return steps;
+     }
+ 
+     /*
+      * add: Appends a single step to the end of the log.
+      */
+     public final void add(long step) {
+         long index = size;
+         store(index, step);
+         size = index + 1;
+ 
+         // Wake any waiting readers every SIGNAL_MASK + 1 steps.
+         if (((int) size & SIGNAL_MASK) == 0) {
+             signalReaders();
+         }
+     }
+ 
+     // Stores the step at the given position (only called by the recording thread, one position after another),
+     // throwing if there is no room for it.
+     protected abstract void store(long index, long step);
+ 
+     // Reads the step stored at the given position (any position below size()).
+     protected abstract long load(long index);
+ 
+     /*
+      * close: Releases what the log holds outside the heap (e.g. its file). Steps read after closing are
+      * undefined, but reading them never fails, so a replay that is being cancelled can finish its last step.
+      */
+     public void close() {
+     }
+ 
+     /*
+      * finish: Marks the log as complete (no more steps will be added) and wakes any waiting readers.
+      */
+     public void finish() {
+         finished = true;
+         signalReaders();
+     }
+ 
+     /*
+      * fail: Marks the log as complete because the recording stopped with the given error (no FINISH step will
+      * follow), and wakes any waiting readers.
+      */
+     public void fail(RuntimeException error) {
+         failure = error;
+         finished = true;
+         signalReaders();
+     }
+ 
+     // Marks a log whose steps were already stored when it was opened (e.g. a recording read back from a file) as complete.
+     protected final void restore(long steps) {
+         size = steps;
+         finished = true;
+         signalReaders();
+     }
+ 
+     // Wakes every reader waiting for more steps.
+     private void signalReaders() {
+         growthLock.lock();
+         try {
+             grown.signalAll();
+         } finally {
+             growthLock.unlock();
+         }
+     }
+ 
+     /*
+      * awaitStep: Blocks until the step at the given position has been recorded, the log is finished,
+      * or the timeout passes. Returns true if the step at that position is available.
+      * The wait is a managed block, so a reader running in a fork-join pool lets the pool start another
+      * thread instead of holding one of its workers (which could be needed by the recorder it waits for).
+      */
+     public boolean awaitStep(long index, long timeoutMillis) throws InterruptedException {
+         if (index < size) return true;
+         ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+             @Override
+             public boolean block() throws InterruptedException {
+                 growthLock.lock();
+                 try {
+                     // Readers are only signalled every so many steps, so the steps in between are picked up by the timeout.
+                     if (!isReleasable()) {
+                         grown.await(timeoutMillis, TimeUnit.MILLISECONDS);
+                     }
+                 } finally {
+                     growthLock.unlock();
+                 }
+                 return true;
+             }
+ 
+             @Override
+             public boolean isReleasable() {
+                 return index < size || finished;
+             }
+         });
+         return index < size;
+     }
+ 
+     /*
+      * get: Returns the step recorded at the given position.
+      */
+     public long get(long index) {
+         if (index < 0 || index >= size) {
+             throw new IndexOutOfBoundsException("Step " + index + " out of range for log of size " + size);
+         }
+         return load(index);
+     }
+ 
+     // Number of steps recorded.
+     public long size() {
+         return size;
+     }
+ 
+     // Whether the recorder has written its last step (or has failed).
+     public boolean isFinished() {
+         return finished;
+     }
+ 
+     // Error that stopped the recording before its last step (see fail), or null.
+     public RuntimeException getFailure() {
+         return failure;
+     }
+ }
@@ -0,0 +1,349 @@
+/*
+ * StepPlayer.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * StepPlayer replays a recorded StepLog one step at a time, applying each step
+  * to the working array and to the highlight indices that the panel paints.
+  */
+ public class StepPlayer {
+ 
+     // Working array that the steps are applied to.
+     private final int[] array;
+ 
+     /*
+      * Values present in the array:
+         * length   -> number of values received so far (the whole array, unless the values are streamed in by APPEND steps)
+         * maxValue -> largest of them, which the bars are scaled to (it only grows when a larger value is appended)
+      */
+     private int length, maxValue;
+ 
+     /*
+      * Indices to highlight the:
+         * keyIndex         -> current KEY element's initial index
+         * currentIndex     -> value of key value's CURRENT index
+         * comparisonIndex  -> next element up for COMPARISON to the key value
+         * sortedIndex      -> boundary between SORTED and unsorted portions
+         * rangeLow/High    -> subarray the algorithm is working on (merge, partition, heap)
+         * probeIndex       -> element PROBED by a binary search in the last step
+         * movedLow/High    -> block MOVED up one place by a block move in the last step
+      */
+     private int keyIndex = -1, currentIndex = -1, comparisonIndex = -1, sortedIndex = -1;
+     private int rangeLow = -1, rangeHigh = -1;
+     private int probeIndex = -1, movedLow = -1, movedHigh = -1;
+ 
+     // Equal keys the sort left out of their original order, once it has FINISHED (-1 until then, or if that can't be told).
+     private int unstablePairs = -1;
+ 
+     // Cost of the steps applied so far.
+     private final SortCounters counters = new SortCounters();
+ 
+     /*
+      * Range of array indices written since it was last taken, packed as (low << 32 | high).
+      * Only the replaying thread touches the player; the painter reads published FrameStates instead.
+      */
+     private long dirtyRange = FrameExchange.NO_RANGE;
+ 
+     // Range of indices whose value OR highlight changed in the last applied step (only read by the replaying thread).
+     private int changedLow, changedHigh;
+ 
+     public StepPlayer(int[] array) {
+         this(array, array.length);
+     }
+ 
+     /*
+      * Constructor: Replays onto an array whose first length values are present, and whose rest is
+      * filled by APPEND steps as the values are streamed in.
+      */
+     public StepPlayer(int[] array, int length) {
+         this.array = array;
+         this.length = length;
+         this.maxValue = findMaxValue(array, length);
+     }
+ 
+     /*
+      * findMaxValue: Finds the largest of the first length values so the graph fills the available height,
+      * even if the largest value is much smaller than the theoretical maximum.
+      */
+     private static int findMaxValue(int[] values, int length) {
+         int max = 1;
+         for (int i = 0; i < length; i++) {
+             if (values[i] > max) {
+                 max = values[i];
+             }
+         }
+         return max;
+     }
+ 
+     /*
+      * apply: Applies a single packed step to the array and the highlight indices.
+      */
+     public void apply(long step) {
+         int a = SortStep.a(step), b = SortStep.b(step);
+         int oldKey = keyIndex, oldCurrent = currentIndex, oldComparison = comparisonIndex, oldSorted = sortedIndex;
+         int oldRangeLow = rangeLow, oldRangeHigh = rangeHigh;
+         changedLow = Integer.MAX_VALUE;
+         changedHigh = -1;
+ 
+         // Probes and block moves are only highlighted for the step that made them.
+         if (probeIndex >= 0) markChanged(probeIndex, probeIndex);
+         if (movedLow >= 0) markChanged(movedLow, movedHigh);
+         probeIndex = -1;
+         movedLow = -1;
+         movedHigh = -1;
+ 
+         switch (SortStep.opcode(step)) {
+             case SortStep.BOUNDARY:
+                 currentIndex = -1;
+                 comparisonIndex = -1;
+                 sortedIndex = a;
+                 break;
+             case SortStep.KEY:
+                 keyIndex = a;
+                 currentIndex = a;
+                 comparisonIndex = b;
+                 sortedIndex = b;
+                 break;
+             case SortStep.SHIFT:
+                 // The key sits directly to the right of the element it was compared with, so a shift is an adjacent swap.
+                 int shifted = array[a];
+                 array[a] = array[a + 1];
+                 array[a + 1] = shifted;
+                 markDirty(a, a + 1);
+                 markChanged(a, a + 1);
+                 currentIndex = a;
+                 comparisonIndex = b;
+                 sortedIndex = b;
+                 break;
+             case SortStep.FINISH:
+                 currentIndex = -1;
+                 comparisonIndex = -1;
+                 sortedIndex = length;
+                 rangeLow = -1;
+                 rangeHigh = -1;
+                 unstablePairs = a;
+                 break;
+             case SortStep.COMPARE:
+                 currentIndex = a;
+                 comparisonIndex = b;
+                 break;
+             case SortStep.SWAP:
+                 int swapped = array[a];
+                 array[a] = array[b];
+                 array[b] = swapped;
+                 markDirty(Math.min(a, b), Math.max(a, b));
+                 markChanged(a, b);
+                 currentIndex = a;
+                 comparisonIndex = b;
+                 break;
+             case SortStep.WRITE:
+                 array[a] = b;
+                 markDirty(a, a);
+                 markChanged(a, a);
+                 currentIndex = a;
+                 comparisonIndex = -1;
+                 break;
+             case SortStep.RANGE:
+                 currentIndex = -1;
+                 comparisonIndex = -1;
+                 rangeLow = a;
+                 rangeHigh = b;
+                 break;
+             case SortStep.PROBE:
+                 probeIndex = a;
+                 currentIndex = b;
+                 comparisonIndex = -1;
+                 markChanged(a, a);
+                 break;
+             case SortStep.MOVE:
+                 int moved = array[b];
+                 System.arraycopy(array, a, array, a + 1, b - a);
+                 array[a] = moved;
+                 markDirty(a, b);
+                 markChanged(a, b);
+                 currentIndex = a;
+                 comparisonIndex = -1;
+                 movedLow = a + 1;
+                 movedHigh = b;
+                 break;
+             case SortStep.APPEND:
+                 array[a] = b;
+                 length = a + 1;
+                 markDirty(a, a);
+                 markChanged(a, a);
+                 if (b > maxValue) {
+                     // A new largest value rescales every bar.
+                     maxValue = b;
+                     markDirty(0, a);
+                     markChanged(0, a);
+                 }
+                 currentIndex = a;
+                 comparisonIndex = -1;
+                 break;
+             default:
+                 throw new IllegalArgumentException("Unknown step opcode: " + SortStep.opcode(step));
+         }
+ 
+         // An element's highlight only changes if it lies between the old and new value of one of the indices.
+         if (oldKey != keyIndex) markChanged(oldKey, keyIndex);
+         if (oldCurrent != currentIndex) markChanged(oldCurrent, currentIndex);
+         if (oldComparison != comparisonIndex) markChanged(oldComparison, comparisonIndex);
+         if (oldSorted != sortedIndex) markChanged(oldSorted, sortedIndex);
+         if (oldRangeLow != rangeLow) markChanged(oldRangeLow, rangeLow);
+         if (oldRangeHigh != rangeHigh) markChanged(oldRangeHigh, rangeHigh);
+ 
+         counters.count(step);
+     }
+ 
+     /*
+      * markChanged: Widens the range changed by the current step to cover from..to (in either order),
+      * clamped to the array bounds.
+      */
+     private void markChanged(int from, int to) {
+         int low = Math.max(0, Math.min(from, to)), high = Math.min(array.length - 1, Math.max(from, to));
+         if (low > high) return;
+         changedLow = Math.min(changedLow, low);
+         changedHigh = Math.max(changedHigh, high);
+     }
+ 
+     /*
+      * lastChangedRange: Returns the range of indices that look different after the last applied step,
+      * packed as (low << 32 | high); low > high means nothing visible changed.
+      */
+     public long lastChangedRange() {
+         return ((long) changedLow << 32) | (changedHigh & 0xFFFFFFFFL);
+     }
+ 
+     /*
+      * markDirty: Widens the dirty range to include the indices low..high.
+      */
+     private void markDirty(int low, int high) {
+         dirtyRange = FrameExchange.widen(dirtyRange, ((long) low << 32) | (high & 0xFFFFFFFFL));
+     }
+ 
+     /*
+      * takeDirtyRange: Returns the range of indices written since the last call and clears it.
+      * The result is packed as (low << 32 | high); low > high means nothing changed.
+      */
+     public long takeDirtyRange() {
+         long range = dirtyRange;
+         dirtyRange = FrameExchange.NO_RANGE;
+         return range;
+     }
+ 
+     /*
+      * reset: Clears all highlight indices and counters (the caller restores the array contents).
+      */
+     public void reset() {
+         keyIndex = -1;
+         currentIndex = -1;
+         comparisonIndex = -1;
+         sortedIndex = -1;
+         rangeLow = -1;
+         rangeHigh = -1;
+         probeIndex = -1;
+         movedLow = -1;
+         movedHigh = -1;
+         unstablePairs = -1;
+         counters.reset();
+     }
+ 
+     /*
+      * copy: Returns a player over a copy of the array, in the same state as this one (used as a timeline checkpoint).
+      */
+     public StepPlayer copy() {
+         StepPlayer copy = new StepPlayer(array.clone(), 0); // The length and largest value are copied with the rest of the state
+         copy.restoreState(this);
+         return copy;
+     }
+ 
+     /*
+      * restore: Puts this player (array, highlights and counters) back into the state of another player over an
+      * array of the same length, e.g. a checkpoint. The whole array is marked as written and changed.
+      */
+     public void restore(StepPlayer from) {
+         System.arraycopy(from.array, 0, array, 0, array.length);
+         restoreState(from);
+         markDirty(0, array.length - 1);
+         changedLow = 0;
+         changedHigh = array.length - 1;
+     }
+ 
+     // Copies the highlight indices and counters of another player.
+     private void restoreState(StepPlayer from) {
+         keyIndex = from.keyIndex;
+         currentIndex = from.currentIndex;
+         comparisonIndex = from.comparisonIndex;
+         sortedIndex = from.sortedIndex;
+         rangeLow = from.rangeLow;
+         rangeHigh = from.rangeHigh;
+         probeIndex = from.probeIndex;
+         movedLow = from.movedLow;
+         movedHigh = from.movedHigh;
+         unstablePairs = from.unstablePairs;
+         length = from.length;
+         maxValue = from.maxValue;
+         counters.set(from.counters);
+     }
+ 
+     // Accessors for publishing frames.
+     public int[] getArray() {
+         return array;
+     }
+ 
+     public int getLength() {
+         return length;
+     }
+ 
+     public int getMaxValue() {
+         return maxValue;
+     }
+ 
+     public int getKeyIndex() {
+         return keyIndex;
+     }
+ 
+     public int getCurrentIndex() {
+         return currentIndex;
+     }
+ 
+     public int getComparisonIndex() {
+         return comparisonIndex;
+     }
+ 
+     public int getSortedIndex() {
+         return sortedIndex;
+     }
+ 
+     public int getRangeLow() {
+         return rangeLow;
+     }
+ 
+     public int getRangeHigh() {
+         return rangeHigh;
+     }
+ 
+     public int getProbeIndex() {
+         return probeIndex;
+     }
+ 
+     public int getMovedLow() {
+         return movedLow;
+     }
+ 
+     public int getMovedHigh() {
+         return movedHigh;
+     }
+ 
+     public int getUnstablePairs() {
+         return unstablePairs;
+     }
+ 
+     public SortCounters getCounters() {
+         return counters;
+     }
+ }
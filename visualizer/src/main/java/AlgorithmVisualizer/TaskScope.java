@@ -0,0 +1,159 @@
+/*
+ * TaskScope.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.util.ArrayList;
+ import java.util.List;
+ import java.util.concurrent.CancellationException;
+ import java.util.concurrent.ExecutionException;
+ import java.util.concurrent.Executor;
+ import java.util.concurrent.ExecutorService;
+ import java.util.concurrent.Executors;
+ import java.util.concurrent.ForkJoinPool;
+ import java.util.concurrent.Future;
+ import java.util.concurrent.FutureTask;
+ import java.util.concurrent.RejectedExecutionException;
+ 
+ /*
+  * TaskScope runs a group of related background tasks (e.g. the recording and indexing of one sort) and
+  * cancels or waits for them as one unit, instead of each caller starting, interrupting and joining raw threads:
+      * fork   -> starts a task in the scope
+      * cancel -> interrupts every task of the scope that is still running and returns right away (safe on the EDT)
+      * join   -> waits until every task of the scope has actually returned
+  * If a task fails, the rest of its scope is cancelled and the error is reported like an uncaught exception
+  * (and thrown again by join), so a failed task never leaves the others waiting for it.
+  * Tasks run on one set of workers shared by every scope: a virtual thread per task when the JDK has them
+  * (21 and later), so thousands of sorts cost little more than their memory, otherwise a fork-join pool
+  * with a thread per core.
+  */
+ public class TaskScope {
+ 
+     // Workers shared by every scope that isn't given its own executor.
+     private static final ExecutorService WORKERS = createWorkers();
+     private static final boolean VIRTUAL = !(WORKERS instanceof ForkJoinPool);
+ 
+     private final Executor executor;
+ 
+     /*
+      * State of the scope (guarded by this):
+          * tasks     -> every task forked so far
+          * running   -> tasks that have been forked but have not returned yet
+          * cancelled -> whether the scope was cancelled (no more tasks can be forked)
+          * failure   -> the first error thrown by a task, if any
+      */
+     private final List<Future<?>> tasks = new ArrayList<>();
+     private int running;
+     private boolean cancelled;
+     private Throwable failure;
+ 
+     public TaskScope() {
+         this(WORKERS);
+     }
+ 
+     public TaskScope(Executor executor) {
+         this.executor = executor;
+     }
+ 
+     // Workers shared by every scope (and by every lane of a race).
+     public static Executor workers() {
+         return WORKERS;
+     }
+ 
+     // Whether the shared workers are virtual threads.
+     public static boolean usesVirtualThreads() {
+         return VIRTUAL;
+     }
+ 
+     // Executors.newVirtualThreadPerTaskExecutor only exists from JDK 21, and this code is compiled for 17.
+     private static ExecutorService createWorkers() {
+         try {
+             return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+         } catch (ReflectiveOperationException e) {
+             return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+         }
+     }
+ 
+     /*
+      * fork: Starts a task in the scope, returning a future that interrupts the task if it is cancelled
+      * (a task submitted to a fork-join pool directly ignores interrupts when cancelled).
+      */
+     public synchronized Future<?> fork(Runnable task) {
+         if (cancelled) throw new IllegalStateException("Task scope is cancelled");
+         FutureTask<?> future = new FutureTask<>(() -> {
+             try {
+                 task.run();
+             } catch (RuntimeException | Error e) {
+                 failed(e);
+                 throw e;
+             }
+         }, null);
+         tasks.add(future);
+         running++;
+         try {
+             executor.execute(() -> {
+                 try {
+                     future.run();
+                 } finally {
+                     Thread.interrupted(); // Don't leave a cancelled task's interrupt on a pooled thread.
+                     returned();
+                 }
+             });
+         } catch (RejectedExecutionException e) {
+             running--;
+             throw e;
+         }
+         return future;
+     }
+ 
+     /*
+      * cancel: Cancels the scope, interrupting every task that is still running. Does not wait for them to return.
+      */
+     public void cancel() {
+         List<Future<?>> forked;
+         synchronized (this) {
+             if (cancelled) return;
+             cancelled = true;
+             forked = new ArrayList<>(tasks);
+         }
+         for (Future<?> future : forked) {
+             future.cancel(true);
+         }
+     }
+ 
+     // Whether the scope was cancelled (by cancel, or by a failed task).
+     public synchronized boolean isCancelled() {
+         return cancelled;
+     }
+ 
+     /*
+      * join: Waits until every task forked so far has returned. Throws the first error a task failed with, if any.
+      */
+     public void join() throws InterruptedException, ExecutionException {
+         synchronized (this) {
+             while (running > 0) {
+                 wait();
+             }
+             if (failure != null) throw new ExecutionException(failure);
+         }
+     }
+ 
+     // Keeps the first failure, cancels the rest of the scope and reports the error (a cancelled task stopping is not a failure).
+     private void failed(Throwable error) {
+         synchronized (this) {
+             if (cancelled && error instanceof CancellationException) return;
+             if (failure == null) failure = error;
+         }
+         cancel();
+         Thread current = Thread.currentThread();
+         current.getUncaughtExceptionHandler().uncaughtException(current, error);
+     }
+ 
+     // Counts a task as returned, waking join once none are left.
+     private synchronized void returned() {
+         if (--running == 0) notifyAll();
+     }
+ }
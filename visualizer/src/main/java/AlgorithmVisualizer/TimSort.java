@@ -0,0 +1,98 @@
+/*
+ * TimSort.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * TimSort is a simplified TimSort: it splits the array into natural runs (reversing strictly
+  * descending ones), extends short runs to a minimum length with insertion sort, then merges
+  * neighbouring runs pairwise until one run is left. Already sorted input is a single run.
+  */
+ public class TimSort implements SortAlgorithm {
+ 
+     // Arrays this small are handled by a single insertion-sorted run.
+     private static final int MIN_MERGE = 32;
+ 
+     @Override
+     public String getName() {
+         return "TimSort";
+     }
+ 
+     @Override
+     public void sort(SortRecorder recorder) {
+         int n = recorder.length();
+         if (n < 2) return;
+         int minRun = minRunLength(n);
+ 
+         // Find the runs, recording where each one starts (runStarts[runCount] = n).
+         int[] runStarts = new int[n / minRun + 2];
+         int runCount = 0;
+         for (int start = 0; start < n; ) {
+             int end = countRun(recorder, start, n);
+             int forced = Math.min(start + minRun, n);
+             if (end < forced) {
+                 extendRun(recorder, start, end, forced);
+                 end = forced;
+             }
+             runStarts[runCount++] = start;
+             start = end;
+         }
+         runStarts[runCount] = n;
+ 
+         // Merge neighbouring runs until only one is left.
+         while (runCount > 1) {
+             int merged = 0;
+             for (int r = 0; r < runCount; r += 2) {
+                 if (r + 1 < runCount) {
+                     MergeSort.merge(recorder, runStarts[r], runStarts[r + 1] - 1, runStarts[r + 2] - 1);
+                 }
+                 runStarts[merged++] = runStarts[r];
+             }
+             runStarts[merged] = n;
+             runCount = merged;
+         }
+     }
+ 
+     /*
+      * countRun: Returns the end (exclusive) of the natural run starting at start, reversing it
+      * first if it is strictly descending.
+      */
+     private static int countRun(SortRecorder recorder, int start, int n) {
+         int end = start + 1;
+         if (end == n) return end;
+         if (recorder.compare(end, start) < 0) {
+             end++;
+             while (end < n && recorder.compare(end, end - 1) < 0) end++;
+             for (int i = start, j = end - 1; i < j; i++, j--) {
+                 recorder.swap(i, j);
+             }
+         } else {
+             end++;
+             while (end < n && recorder.compare(end, end - 1) >= 0) end++;
+         }
+         return end;
+     }
+ 
+     // Insertion sorts the elements from end up to forced (exclusive) into the sorted run start..end-1.
+     private static void extendRun(SortRecorder recorder, int start, int end, int forced) {
+         recorder.range(start, forced - 1);
+         for (int i = end; i < forced; i++) {
+             for (int j = i; j > start && recorder.compare(j - 1, j) > 0; j--) {
+                 recorder.swap(j - 1, j);
+             }
+         }
+     }
+ 
+     // Same minimum run length as java.util's TimSort: between MIN_MERGE / 2 and MIN_MERGE.
+     private static int minRunLength(int n) {
+         int r = 0;
+         while (n >= MIN_MERGE) {
+             r |= (n & 1);
+             n >>= 1;
+         }
+         return n + r;
+     }
+ }
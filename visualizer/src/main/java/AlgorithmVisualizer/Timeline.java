@@ -0,0 +1,155 @@
+/*
+ * Timeline.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ /*
+  * Timeline makes any step of a recorded sort reachable without replaying from the start.
+  * The step log already holds every change (the deltas); the timeline adds periodic checkpoints of
+  * the full player state (array, highlights and counters), indexed from the log on a background thread.
+  * Seeking restores the nearest checkpoint at or before the target and replays at most one
+  * checkpoint interval of steps, so seeking backwards costs the same as seeking forwards.
+  * Checkpoints live on the heap even when the log does not, so their total size is capped: once
+  * MAX_CHECKPOINT_BYTES is reached, every other checkpoint is dropped and the interval doubles.
+  */
+ public class Timeline {
+ 
+     // Fewest steps between checkpoints (small arrays would otherwise checkpoint almost every step).
+     private static final int MIN_INTERVAL = 1024;
+ 
+     // How long the indexer waits for the recorder before checking again (in milliseconds).
+     private static final long INDEX_WAIT_MILLIS = 10;
+ 
+     // Most heap the checkpoints of one timeline may take (a checkpoint holds one int per element), and the fewest kept.
+     private static final long MAX_CHECKPOINT_BYTES = 64L << 20;
+     private static final int MIN_CHECKPOINTS = 16;
+ 
+     private final StepLog log;
+ 
+     // Most checkpoints kept at once, from MAX_CHECKPOINT_BYTES and the array length (even, so after thinning the
+     // checkpoint being added still falls on the doubled interval).
+     private final int maxCheckpoints;
+ 
+     /*
+      * Checkpoints and the steps between them (guarded by this; the checkpoints themselves are never changed once added):
+          * interval    -> steps between checkpoints; it starts at the array length, so a checkpoint (one int per
+          *                element) costs at most one int per step, half of what the log itself stores per step
+          * checkpoints -> checkpoint i holds the state after i * interval steps
+          * count       -> number of checkpoints taken
+      */
+     private long interval;
+     private StepPlayer[] checkpoints = new StepPlayer[16];
+     private int count;
+ 
+     /*
+      * Constructor: Starts the timeline from the unsorted array (checkpoint 0) for the steps in the log.
+      */
+     public Timeline(int[] original, StepLog log) {
+         this(original, original.length, log);
+     }
+ 
+     /*
+      * Constructor: Same as above, for an array whose first length values are present and whose rest is streamed in.
+      */
+     public Timeline(int[] original, int length, StepLog log) {
+         this.log = log;
+         this.interval = Math.max(MIN_INTERVAL, original.length);
+         this.maxCheckpoints = (int) Math.max(MIN_CHECKPOINTS, Math.min(Integer.MAX_VALUE / 2, MAX_CHECKPOINT_BYTES / Integer.BYTES / Math.max(1, original.length))) & ~1;
+         checkpoints[0] = new StepPlayer(original.clone(), length);
+         count = 1;
+     }
+ 
+     /*
+      * index: Follows the log as it is recorded and takes a checkpoint every interval steps. Runs until
+      * the log is finished or the thread is interrupted (e.g. when the sort is reset).
+      */
+     public void index() {
+         StepPlayer player;
+         long next;
+         synchronized (this) {
+             player = checkpoints[0].copy();
+             next = interval;
+         }
+         long position = 0;
+         try {
+             while (!Thread.currentThread().isInterrupted()) {
+                 if (!log.awaitStep(position, INDEX_WAIT_MILLIS)) {
+                     if (log.isFinished()) return;
+                     continue;
+                 }
+                 for (long end = log.size(); position < end; ) {
+                     player.apply(log.get(position++));
+                     if (position == next) next = add(player.copy());
+                 }
+             }
+         } catch (InterruptedException e) {
+             // Reset while waiting for the recorder; the checkpoints so far stay valid.
+         }
+     }
+ 
+     /*
+      * add: Publishes a checkpoint (only called by the indexing thread), thinning the checkpoints first if there
+      * are too many, and returns the position of the next checkpoint to take.
+      */
+     private synchronized long add(StepPlayer checkpoint) {
+         if (count == maxCheckpoints) {
+             // Keep the even checkpoints (the states after 0, 2 * interval, 4 * interval, ...) and double the interval.
+             // A new array, so a seek that took the old one can keep using it.
+             StepPlayer[] thinned = new StepPlayer[checkpoints.length];
+             for (int i = 0; i < count; i += 2) {
+                 thinned[i / 2] = checkpoints[i];
+             }
+             checkpoints = thinned;
+             count = (count + 1) / 2;
+             interval *= 2;
+         }
+         if (count == checkpoints.length) {
+             StepPlayer[] grown = new StepPlayer[checkpoints.length * 2];
+             System.arraycopy(checkpoints, 0, grown, 0, checkpoints.length);
+             checkpoints = grown;
+         }
+         checkpoints[count] = checkpoint;
+         count = count + 1;
+         return count * interval;
+     }
+ 
+     /*
+      * seek: Moves the player from the given position (steps applied so far) to the target position, clamped
+      * to the steps recorded so far, and returns the new position. Replays forward when that is the shortest
+      * route, otherwise restores the closest checkpoint first.
+      */
+     public long seek(StepPlayer player, long position, long target) {
+         target = Math.max(0, Math.min(target, log.size()));
+         StepPlayer[] available;
+         int indexed;
+         long every;
+         synchronized (this) {
+             available = checkpoints;
+             indexed = count;
+             every = interval;
+         }
+         int checkpoint = (int) Math.min(target / every, indexed - 1);
+         long checkpointPosition = checkpoint * every;
+         if (target < position || position < checkpointPosition) {
+             player.restore(available[checkpoint]);
+             position = checkpointPosition;
+         }
+         while (position < target) {
+             player.apply(log.get(position++));
+         }
+         return position;
+     }
+ 
+     // Number of steps recorded so far (the length of the timeline).
+     public long length() {
+         return log.size();
+     }
+ 
+     // Whether every step of the sort has been recorded (a recording that failed is never complete).
+     public boolean isComplete() {
+         return log.isFinished() && log.getFailure() == null;
+     }
+ }
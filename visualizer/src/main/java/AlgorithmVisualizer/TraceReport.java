@@ -0,0 +1,127 @@
+/*
+ * TraceReport.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.IOException;
+ import java.io.PrintStream;
+ import java.nio.file.Path;
+ import java.nio.file.Paths;
+ import java.time.Duration;
+ import java.time.Instant;
+ import java.util.LinkedHashMap;
+ import java.util.Map;
+ import jdk.jfr.Event;
+ import jdk.jfr.Name;
+ import jdk.jfr.consumer.RecordedEvent;
+ import jdk.jfr.consumer.RecordingFile;
+ 
+ /*
+  * TraceReport summarizes a flight recording of the visualizer's events (see SortEvents): how much of the traced
+  * time went to sorting (recording), stepping (replaying ticks), sleeping (delays between ticks), being paused and
+  * painting. The recorder, the step clock and the painter run on different threads, so the shares can add up to
+  * more than 100%.
+  *
+  * Usage: java -cp algorithm-visualizer.jar AlgorithmVisualizer.TraceReport FILE.jfr
+  */
+ public class TraceReport {
+ 
+     // Totals for one event type (instant events, like repaint requests, are only counted).
+     private static class Totals {
+         private final String label, unit;
+         private final boolean timed;
+         private long count, nanos, maxNanos, steps;
+ 
+         Totals(String label, String unit, boolean timed) {
+             this.label = label;
+             this.unit = unit;
+             this.timed = timed;
+         }
+     }
+ 
+     private final Path file;
+ 
+     // Totals for each event type (keyed by event name, in the order they are printed), and the time they span.
+     private final Map<String, Totals> totals = new LinkedHashMap<>();
+     private Instant first, last;
+ 
+     private TraceReport(Path file) {
+         this.file = file;
+         track(SortEvents.Record.class, "Sorting", "sorts", true);
+         track(SortEvents.Tick.class, "Stepping", "ticks", true);
+         track(SortEvents.Delay.class, "Sleeping", "delays", true);
+         track(SortEvents.Pause.class, "Paused", "pauses", true);
+         track(SortEvents.Paint.class, "Painting", "paints", true);
+         track(SortEvents.Repaint.class, "Repaints", "requests", false);
+     }
+ 
+     private void track(Class<? extends Event> type, String label, String unit, boolean timed) {
+         totals.put(type.getAnnotation(Name.class).value(), new Totals(label, unit, timed));
+     }
+ 
+     /*
+      * summarize: Reads every visualizer event in the given recording (other events are skipped).
+      */
+     public static TraceReport summarize(Path file) throws IOException {
+         TraceReport report = new TraceReport(file);
+         try (RecordingFile recording = new RecordingFile(file)) {
+             while (recording.hasMoreEvents()) {
+                 report.add(recording.readEvent());
+             }
+         }
+         return report;
+     }
+ 
+     // Adds one event to the totals of its type.
+     private void add(RecordedEvent event) {
+         Totals type = totals.get(event.getEventType().getName());
+         if (type == null) return;
+         long nanos = event.getDuration().toNanos();
+         type.count++;
+         type.nanos += nanos;
+         type.maxNanos = Math.max(type.maxNanos, nanos);
+         if (event.hasField("steps")) type.steps += event.getLong("steps");
+         if (first == null || event.getStartTime().isBefore(first)) first = event.getStartTime();
+         if (last == null || event.getEndTime().isAfter(last)) last = event.getEndTime();
+     }
+ 
+     /*
+      * print: Prints the count, total time and share of the traced time for each kind of event, with the average and
+      * longest event, and the steps recorded and replayed.
+      */
+     public void print(PrintStream out) {
+         long span = first == null ? 0 : Duration.between(first, last).toNanos();
+         out.printf("Trace summary for %s (%.3f s traced)%n", file, span / 1e9);
+         for (Totals type : totals.values()) {
+             if (!type.timed) {
+                 out.printf("  %-9s %,10d %s%n", type.label, type.count, type.unit);
+                 continue;
+             }
+             out.printf("  %-9s %,10d %-8s %10.3f s %6.1f %%   avg %8.3f ms   max %8.3f ms", type.label, type.count, type.unit,
+                     type.nanos / 1e9, span == 0 ? 0 : 100.0 * type.nanos / span,
+                     type.count == 0 ? 0 : type.nanos / 1e6 / type.count, type.maxNanos / 1e6);
+             if (type.steps > 0) out.printf("   %,d steps", type.steps);
+             out.println();
+         }
+     }
+ 
+     /*
+      * main: Prints the summary of each recording given on the command line.
+      */
+     public static void main(String[] args) {
+         if (args.length == 0) {
+             System.err.println("Usage: TraceReport FILE.jfr [FILE.jfr ...]");
+             System.exit(2);
+         }
+         for (String name : args) {
+             try {
+                 summarize(Paths.get(name)).print(System.out);
+             } catch (IOException e) {
+                 System.err.println("Could not read " + name + ": " + e.getMessage());
+             }
+         }
+     }
+ }
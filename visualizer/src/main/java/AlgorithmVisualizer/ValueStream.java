@@ -0,0 +1,356 @@
+/*
+ * ValueStream.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import java.io.BufferedInputStream;
+ import java.io.IOException;
+ import java.io.InputStream;
+ import java.nio.file.Files;
+ import java.nio.file.Path;
+ import java.util.Arrays;
+ import java.util.concurrent.ForkJoinPool;
+ import java.util.concurrent.TimeUnit;
+ import java.util.concurrent.locks.Condition;
+ import java.util.concurrent.locks.ReentrantLock;
+ 
+ /*
+  * ValueStream carries values that arrive over time, instead of all up front, from a source to the recorder
+  * that inserts them into the sorted values as they come (see SortRecorder). The values pass through a bounded
+  * queue of plain ints (no object per value): once it is full, the source waits for the recorder to catch up,
+  * so a fast source is held back instead of piling up values in memory. Sources:
+      * file      -> the numbers in a text file, separated by anything that is not a digit
+      * stdin     -> the same, read from standard input as it is typed or piped in (and kept for replay, see InputBuffer)
+      * generator -> values in one of the ArrayGenerator distributions, at a fixed rate
+  * A stream is started for each sort from its source, so the same source can be streamed again after a reset.
+  */
+ public class ValueStream {
+ 
+     // Value taken once the source has run out (values are never negative).
+     public static final int END = -1;
+ 
+     // Values the queue holds before the source has to wait.
+     public static final int QUEUE_CAPACITY = 256;
+ 
+     /*
+      * Source: Puts values into a stream, one at a time, until it runs out (then returns) or is interrupted.
+      */
+     @FunctionalInterface
+     public interface Source {
+         void feed(ValueStream stream) throws IOException, InterruptedException;
+     }
+ 
+     // Where parse puts the numbers it reads.
+     @FunctionalInterface
+     private interface Sink {
+         void put(int value) throws InterruptedException;
+     }
+ 
+     // Standard input, read once for every stream of the stdin source.
+     private static final InputBuffer STDIN = new InputBuffer(System.in);
+ 
+     /*
+      * Queue of values (guarded by lock):
+         * buffer -> ring of queued values
+         * head   -> index of the oldest queued value
+         * count  -> number of queued values
+         * ended  -> whether the source has run out (or failed)
+      */
+     private final int[] buffer;
+     private int head, count;
+     private boolean ended;
+     private final ReentrantLock lock = new ReentrantLock();
+     private final Condition notEmpty = lock.newCondition(), notFull = lock.newCondition();
+ 
+     public ValueStream(int capacity) {
+         this.buffer = new int[capacity];
+     }
+ 
+     /*
+      * start: Starts feeding a new stream from the given source as a task of the given scope (so it is cancelled with
+      * the sort it feeds). A source spends nearly all of its time waiting (for input, for its next value to be due,
+      * or for room in the queue), so it runs as one managed block and never holds one of the pool's workers.
+      */
+     public static ValueStream start(Source source, int capacity, TaskScope tasks) {
+         ValueStream stream = new ValueStream(capacity);
+         tasks.fork(() -> {
+             try {
+                 ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                     @Override
+                     public boolean block() throws InterruptedException {
+                         try {
+                             source.feed(stream);
+                         } catch (IOException e) {
+                             System.err.println("Could not read the stream: " + e.getMessage());
+                         }
+                         return true;
+                     }
+ 
+                     @Override
+                     public boolean isReleasable() {
+                         return false;
+                     }
+                 });
+             } catch (InterruptedException e) {
+                 // Cancelled with the sort.
+             } finally {
+                 stream.end();
+             }
+         });
+         return stream;
+     }
+ 
+     /*
+      * put: Adds a value (0..SortStep.MAX_INDEX) to the queue, waiting while the queue is full.
+      */
+     public void put(int value) throws InterruptedException {
+         if (value < 0 || value > SortStep.MAX_INDEX) {
+             throw new IllegalArgumentException("Value out of range for streaming: " + value);
+         }
+         lock.lockInterruptibly();
+         try {
+             while (count == buffer.length) {
+                 notFull.await();
+             }
+             buffer[(head + count) % buffer.length] = value;
+             count++;
+             notEmpty.signal();
+         } finally {
+             lock.unlock();
+         }
+     }
+ 
+     /*
+      * take: Removes the oldest value from the queue, waiting until one arrives. Returns END once the source has run
+      * out and every value has been taken. The wait is a managed block, like StepLog.awaitStep.
+      */
+     public int take() throws InterruptedException {
+         ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+             @Override
+             public boolean block() throws InterruptedException {
+                 lock.lockInterruptibly();
+                 try {
+                     while (count == 0 && !ended) {
+                         notEmpty.await();
+                     }
+                 } finally {
+                     lock.unlock();
+                 }
+                 return true;
+             }
+ 
+             @Override
+             public boolean isReleasable() {
+                 lock.lock();
+                 try {
+                     return count > 0 || ended;
+                 } finally {
+                     lock.unlock();
+                 }
+             }
+         });
+ 
+         lock.lock();
+         try {
+             if (count == 0) return END;
+             int value = buffer[head];
+             head = (head + 1) % buffer.length;
+             count--;
+             notFull.signal();
+             return value;
+         } finally {
+             lock.unlock();
+         }
+     }
+ 
+     /*
+      * end: Marks the stream as ended; the values still queued can be taken, then take returns END.
+      */
+     public void end() {
+         lock.lock();
+         try {
+             ended = true;
+             notEmpty.signalAll();
+         } finally {
+             lock.unlock();
+         }
+     }
+ 
+     /*
+      * file: Streams the numbers in a text file.
+      */
+     public static Source file(Path file) {
+         return stream -> {
+             try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                 parse(in, stream::put);
+             }
+         };
+     }
+ 
+     /*
+      * stdin: Streams the numbers read from standard input, each as soon as the space or line break after it
+      * is read. Standard input can only be read once, so streaming it again (after a reset) first streams the
+      * numbers read so far, then goes on with the input as it arrives. Standard input is left open.
+      */
+     public static Source stdin() {
+         return STDIN::feed;
+     }
+ 
+     /*
+      * generator: Streams count values from 1 to valueRange in the named distribution (see ArrayGenerator),
+      * generated from the given seed, at perSecond values per second (0 for as fast as they are taken).
+      */
+     public static Source generator(String distribution, int count, int valueRange, long seed, double perSecond) {
+         String name = ArrayGenerator.forName(distribution);
+         return stream -> {
+             int[] values = ArrayGenerator.generate(name, count, valueRange, seed);
+             long period = perSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / perSecond) : 0;
+             long due = System.nanoTime();
+             for (int value : values) {
+                 // Each value is due one period after the last, so a late value doesn't push back the ones after it.
+                 due += period;
+                 long wait = due - System.nanoTime();
+                 if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                 stream.put(value);
+             }
+         };
+     }
+ 
+     /*
+      * parse: Puts every number read from the input into the sink. Anything that is not a digit separates
+      * numbers, except a minus sign (values must not be negative).
+      */
+     private static void parse(InputStream in, Sink stream) throws IOException, InterruptedException {
+         long value = -1;
+         for (int c = in.read(); ; c = in.read()) {
+             if (c >= '0' && c <= '9') {
+                 value = Math.max(0, value) * 10 + (c - '0');
+                 if (value > SortStep.MAX_INDEX) throw new IOException("Value too large to stream: " + value + "...");
+                 continue;
+             }
+             if (value >= 0) stream.put((int) value);
+             value = -1;
+             if (c == '-') throw new IOException("Negative values cannot be streamed");
+             if (c < 0) return;
+         }
+     }
+ 
+     /*
+      * InputBuffer: Keeps every number read from an input that can only be read once, so any number of streams
+      * can replay it. The input is read by one daemon thread (started by the first feed) for the life of the
+      * program, so a stream that is cancelled stops at once instead of waiting for its next line of input.
+      * The reader only reads QUEUE_CAPACITY values ahead of the furthest any stream has got, then waits, so a fast
+      * input is held back like any other source: what is kept is bounded by the values the streams actually took
+      * (at most a window each, see SortRecorder), not by the size of the input.
+      * State of the buffer (guarded by lock):
+         * values  -> every value read so far (the first count of them)
+         * wanted  -> how many values the reader may read before it waits for a stream to take more
+         * started -> whether the reading thread has been started
+         * ended   -> whether the input has run out (or failed)
+         * error   -> why reading the input failed, or null
+      */
+     static final class InputBuffer {
+         private final InputStream in;
+         private int[] values = new int[QUEUE_CAPACITY];
+         private int count, wanted = QUEUE_CAPACITY;
+         private boolean started, ended;
+         private IOException error;
+         private final ReentrantLock lock = new ReentrantLock();
+         private final Condition grown = lock.newCondition(), taken = lock.newCondition();
+ 
+         InputBuffer(InputStream in) {
+             this.in = in;
+         }
+ 
+         /*
+          * feed: Puts every value read so far into the stream, then each value as it is read, until the input ends.
+          */
+         void feed(ValueStream stream) throws IOException, InterruptedException {
+             start();
+             for (int next = 0; ; next++) {
+                 int value;
+                 lock.lockInterruptibly();
+                 try {
+                     if (next + QUEUE_CAPACITY > wanted) {
+                         wanted = next + QUEUE_CAPACITY;
+                         taken.signal();
+                     }
+                     while (next == count && !ended) {
+                         grown.await();
+                     }
+                     if (next == count) {
+                         if (error != null) throw error;
+                         return;
+                     }
+                     value = values[next];
+                 } finally {
+                     lock.unlock();
+                 }
+                 stream.put(value);
+             }
+         }
+ 
+         // Number of values kept so far.
+         int size() {
+             lock.lock();
+             try {
+                 return count;
+             } finally {
+                 lock.unlock();
+             }
+         }
+ 
+         // Starts the reading thread, the first time only.
+         private void start() {
+             lock.lock();
+             try {
+                 if (started) return;
+                 started = true;
+             } finally {
+                 lock.unlock();
+             }
+             Thread reader = new Thread(this::read, "stdin-reader");
+             reader.setDaemon(true);
+             reader.start();
+         }
+ 
+         // Reads every number from the input into the buffer, then marks it as ended.
+         private void read() {
+             IOException failure = null;
+             try {
+                 parse(in, this::add);
+             } catch (IOException e) {
+                 failure = e;
+             } catch (InterruptedException e) {
+                 // Never interrupted: the reader runs for the life of the program.
+             } finally {
+                 lock.lock();
+                 try {
+                     error = failure;
+                     ended = true;
+                     grown.signalAll();
+                 } finally {
+                     lock.unlock();
+                 }
+             }
+         }
+ 
+         // Keeps a value read from the input (once a stream wants it) and wakes the streams waiting for it.
+         private void add(int value) throws InterruptedException {
+             lock.lock();
+             try {
+                 while (count == wanted) {
+                     taken.await();
+                 }
+                 if (count == values.length) values = Arrays.copyOf(values, Math.min(count * 2, wanted));
+                 values[count++] = value;
+                 grown.signalAll();
+             } finally {
+                 lock.unlock();
+             }
+         }
+     }
+ }
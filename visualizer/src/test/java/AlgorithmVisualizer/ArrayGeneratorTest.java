@@ -0,0 +1,89 @@
+/*
+ * ArrayGeneratorTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+ import static org.junit.jupiter.api.Assertions.assertFalse;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.util.Arrays;
+ import java.util.concurrent.ForkJoinPool;
+ import org.junit.jupiter.params.ParameterizedTest;
+ import org.junit.jupiter.params.provider.MethodSource;
+ 
+ /*
+  * ArrayGeneratorTest checks that a seed always gives the same array: for a small array (filled on the calling
+  * thread), and for a large one filled in parallel, whether the pool filling it has one thread or several.
+  */
+ class ArrayGeneratorTest {
+ 
+     // Large enough to be filled in parallel, and not a whole number of chunks.
+     private static final int LARGE = (1 << 18) + 12345;
+     private static final int VALUE_RANGE = 1000;
+     private static final long SEED = 20261017;
+ 
+     static String[] distributions() {
+         return ArrayGenerator.names();
+     }
+ 
+     // The distributions with random values (reversed and sawtooth are the same for every seed).
+     static String[] randomDistributions() {
+         return new String[] { ArrayGenerator.UNIFORM, ArrayGenerator.NEARLY_SORTED, ArrayGenerator.FEW_UNIQUE, ArrayGenerator.GAUSSIAN };
+     }
+ 
+     @ParameterizedTest
+     @MethodSource("distributions")
+     void sameSeedGivesSameValues(String distribution) {
+         int[] first = ArrayGenerator.generate(distribution, 500, VALUE_RANGE, SEED);
+         assertArrayEquals(first, ArrayGenerator.generate(distribution, 500, VALUE_RANGE, SEED));
+         assertInRange(first);
+     }
+ 
+     /*
+      * sameValuesSeriallyAndInParallel: A parallel stream runs in the pool it is started from, so generating from a
+      * one-thread pool fills the chunks one after the other, and from a four-thread pool fills them concurrently.
+      */
+     @ParameterizedTest
+     @MethodSource("distributions")
+     void sameValuesSeriallyAndInParallel(String distribution) throws Exception {
+         int[] serial = generateIn(new ForkJoinPool(1), distribution);
+         int[] parallel = generateIn(new ForkJoinPool(4), distribution);
+         assertArrayEquals(serial, parallel);
+         assertArrayEquals(serial, ArrayGenerator.generate(distribution, LARGE, VALUE_RANGE, SEED));
+         assertInRange(serial);
+     }
+ 
+     @ParameterizedTest
+     @MethodSource("distributions")
+     void fillMatchesGenerate(String distribution) {
+         int[] values = new int[LARGE];
+         ArrayGenerator.fill(values, distribution, VALUE_RANGE, SEED);
+         assertArrayEquals(ArrayGenerator.generate(distribution, LARGE, VALUE_RANGE, SEED), values);
+     }
+ 
+     @ParameterizedTest
+     @MethodSource("randomDistributions")
+     void differentSeedsGiveDifferentValues(String distribution) {
+         assertFalse(Arrays.equals(ArrayGenerator.generate(distribution, LARGE, VALUE_RANGE, SEED),
+                 ArrayGenerator.generate(distribution, LARGE, VALUE_RANGE, SEED + 1)));
+     }
+ 
+     // Generates the large array from a task of the given pool, then shuts the pool down.
+     private static int[] generateIn(ForkJoinPool pool, String distribution) throws Exception {
+         try {
+             return pool.submit(() -> ArrayGenerator.generate(distribution, LARGE, VALUE_RANGE, SEED)).get();
+         } finally {
+             pool.shutdown();
+         }
+     }
+ 
+     private static void assertInRange(int[] values) {
+         for (int value : values) {
+             assertTrue(value >= 1 && value <= VALUE_RANGE, "Value out of range: " + value);
+         }
+     }
+ }
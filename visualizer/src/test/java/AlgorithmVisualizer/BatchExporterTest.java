@@ -0,0 +1,73 @@
+/*
+ * BatchExporterTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertThrows;
+ import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.io.File;
+ import java.io.IOException;
+ import java.nio.file.Path;
+ import java.time.Duration;
+ import org.junit.jupiter.api.BeforeAll;
+ import org.junit.jupiter.api.Test;
+ import org.junit.jupiter.api.io.TempDir;
+ 
+ /*
+  * BatchExporterTest exports small sorts as PNG sequences, and checks that a recording that fails part of the way
+  * through ends the export with the error instead of leaving the renderer waiting for the encoder.
+  */
+ class BatchExporterTest {
+ 
+     private static final Duration TIMEOUT = Duration.ofSeconds(30);
+ 
+     @TempDir
+     Path directory;
+ 
+     @BeforeAll
+     static void headless() {
+         System.setProperty("java.awt.headless", "true");
+     }
+ 
+     @Test
+     void writesEveryFrame() throws Exception {
+         File out = directory.resolve("frames").toFile();
+         BatchExporter exporter = BatchExporter.parse(new String[] { "--out", out.getPath(), "--size", "20", "--seed", "3",
+                 "--steps-per-frame", "25", "--queue", "2" });
+         long frames = assertTimeoutPreemptively(TIMEOUT, exporter::export);
+         assertEquals(frames, out.list().length);
+     }
+ 
+     @Test
+     void failedRecordingIsAnExportError() {
+         BatchExporter exporter = BatchExporter.parse(new String[] { "--out", directory.resolve("frames").toString(), "--size", "50",
+                 "--steps-per-frame", "1", "--queue", "2" });
+         exporter.setAlgorithm(new FailingSort());
+         IOException error = assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IOException.class, exporter::export));
+         assertTrue(error.getMessage().contains(FailingSort.MESSAGE), error.getMessage());
+     }
+ 
+     // Records a few swaps, then fails.
+     private static final class FailingSort implements SortAlgorithm {
+         static final String MESSAGE = "Failing Sort gave up";
+ 
+         @Override
+         public String getName() {
+             return "Failing Sort";
+         }
+ 
+         @Override
+         public void sort(SortRecorder recorder) {
+             for (int i = 0; i < 20; i++) {
+                 recorder.swap(i, i + 1);
+             }
+             throw new IllegalStateException(MESSAGE);
+         }
+     }
+ }
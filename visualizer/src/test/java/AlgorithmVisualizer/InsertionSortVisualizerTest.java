@@ -0,0 +1,90 @@
+/*
+ * InsertionSortVisualizerTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ 
+ import java.util.concurrent.Executors;
+ import java.util.concurrent.ScheduledExecutorService;
+ import javax.swing.SwingUtilities;
+ import org.junit.jupiter.api.AfterEach;
+ import org.junit.jupiter.api.BeforeAll;
+ import org.junit.jupiter.api.Test;
+ 
+ /*
+  * InsertionSortVisualizerTest runs sorts on a panel without controls (like a race lane) at the fastest speed.
+  */
+ class InsertionSortVisualizerTest {
+ 
+     private static final long TIMEOUT_MILLIS = 10_000;
+ 
+     private final ScheduledExecutorService stepScheduler = Executors.newSingleThreadScheduledExecutor();
+     private final InsertionSortVisualizer visualizer = new InsertionSortVisualizer(stepScheduler, TaskScope.workers(), false);
+ 
+     @BeforeAll
+     static void headless() {
+         System.setProperty("java.awt.headless", "true");
+     }
+ 
+     @AfterEach
+     void stop() throws Exception {
+         SwingUtilities.invokeAndWait(visualizer::stopSort);
+         stepScheduler.shutdownNow();
+     }
+ 
+     @Test
+     void sortFinishes() throws Exception {
+         start(SortAlgorithms.forName("Merge Sort"));
+         assertEquals(SortState.FINISHED, awaitState(SortState.FINISHED));
+     }
+ 
+     /*
+      * failedRecordingPauses: Once the replay catches up with a recording that failed, the panel is PAUSED
+      * (on the Event Dispatch Thread), so the steps recorded before the error can still be looked through.
+      */
+     @Test
+     void failedRecordingPauses() throws Exception {
+         start(new FailingSort());
+         assertEquals(SortState.PAUSED, awaitState(SortState.PAUSED));
+     }
+ 
+     private void start(SortAlgorithm algorithm) throws Exception {
+         SwingUtilities.invokeAndWait(() -> {
+             visualizer.setArray(ArrayGenerator.generate(ArrayGenerator.UNIFORM, 200, 100, 11));
+             visualizer.setAlgorithm(algorithm);
+             visualizer.setSortingSpeed(100);
+             visualizer.startSort();
+         });
+     }
+ 
+     // Waits until the panel reaches the given state (as seen from the Event Dispatch Thread), or the timeout passes.
+     private SortState awaitState(SortState wanted) throws Exception {
+         long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+         SortState[] state = new SortState[1];
+         do {
+             Thread.sleep(10);
+             SwingUtilities.invokeAndWait(() -> state[0] = visualizer.getState());
+         } while (state[0] != wanted && System.currentTimeMillis() < deadline);
+         return state[0];
+     }
+ 
+     // Records a few swaps, then fails.
+     private static final class FailingSort implements SortAlgorithm {
+         @Override
+         public String getName() {
+             return "Failing Sort";
+         }
+ 
+         @Override
+         public void sort(SortRecorder recorder) {
+             for (int i = 0; i < 20; i++) {
+                 recorder.swap(i, i + 1);
+             }
+             throw new IllegalStateException("Failing Sort gave up");
+         }
+     }
+ }
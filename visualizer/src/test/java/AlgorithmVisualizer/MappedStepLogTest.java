@@ -0,0 +1,130 @@
+/*
+ * MappedStepLogTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertSame;
+ import static org.junit.jupiter.api.Assertions.assertThrows;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.io.IOException;
+ import java.nio.ByteBuffer;
+ import java.nio.ByteOrder;
+ import java.nio.channels.FileChannel;
+ import java.nio.file.Files;
+ import java.nio.file.Path;
+ import java.nio.file.StandardOpenOption;
+ import org.junit.jupiter.api.Test;
+ import org.junit.jupiter.api.io.TempDir;
+ 
+ /*
+  * MappedStepLogTest records a sort to a file, opens it again for replay, and checks that open refuses any file
+  * whose header doesn't describe a finished recording of the steps it holds.
+  */
+ class MappedStepLogTest {
+ 
+     private static final int HEADER_BYTES = 16;
+ 
+     @TempDir
+     Path directory;
+ 
+     @Test
+     void finishedLogOpensWithTheSameSteps() throws IOException {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.UNIFORM, 200, 50, 1);
+         StepLog expected = SortRecorder.record(new InsertionSort(), values);
+         Path file = record(values);
+         assertEquals(HEADER_BYTES + expected.size() * Long.BYTES, Files.size(file));
+ 
+         StepLog opened = MappedStepLog.open(file);
+         try {
+             assertTrue(opened.isFinished());
+             assertEquals(expected.size(), opened.size());
+             for (long i = 0; i < expected.size(); i++) {
+                 assertEquals(expected.get(i), opened.get(i), "step " + i);
+             }
+         } finally {
+             opened.close();
+         }
+     }
+ 
+     @Test
+     void temporaryLogRecordsASort() throws IOException {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.UNIFORM, 200, 50, 1);
+         StepLog expected = SortRecorder.record(new InsertionSort(), values);
+         MappedStepLog log = new MappedStepLog();
+         try {
+             SortRecorder.record(new InsertionSort(), values, log);
+             assertEquals(expected.size(), log.size());
+             assertEquals(expected.get(expected.size() - 1), log.get(log.size() - 1));
+         } finally {
+             log.close();
+         }
+     }
+ 
+     @Test
+     void rejectsAFileWithoutTheMagic() throws IOException {
+         Path file = record(new int[] { 3, 1, 2 });
+         writeLong(file, 0, 0x1234_5678L);
+         assertOpenFails(file, "Not a step log");
+     }
+ 
+     @Test
+     void rejectsAFileShorterThanTheHeader() throws IOException {
+         Path file = directory.resolve("short.log");
+         Files.write(file, new byte[HEADER_BYTES - 1]);
+         assertOpenFails(file, "Not a step log");
+     }
+ 
+     @Test
+     void rejectsALogThatWasNeverFinished() throws IOException {
+         Path file = directory.resolve("unfinished.log");
+         MappedStepLog log = new MappedStepLog(file);
+         log.add(SortStep.of(SortStep.SWAP, 0, 1));
+         log.close();
+         assertOpenFails(file, "never finished");
+     }
+ 
+     @Test
+     void rejectsALogShorterThanItsSteps() throws IOException {
+         Path file = record(new int[] { 3, 1, 2 });
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+             channel.truncate(channel.size() - Long.BYTES);
+         }
+         assertOpenFails(file, "truncated");
+     }
+ 
+     @Test
+     void failedRecordingKeepsTheError() throws IOException {
+         MappedStepLog log = new MappedStepLog(directory.resolve("failed.log"));
+         IllegalStateException error = new IllegalStateException("disk full");
+         log.fail(error);
+         assertTrue(log.isFinished());
+         assertSame(error, log.getFailure());
+         log.close();
+     }
+ 
+     // Records an insertion sort of the values to a new file, and returns the file.
+     private Path record(int[] values) throws IOException {
+         Path file = Files.createTempFile(directory, "steps", ".log");
+         MappedStepLog log = new MappedStepLog(file);
+         SortRecorder.record(new InsertionSort(), values, log);
+         log.close();
+         return file;
+     }
+ 
+     // Overwrites the little-endian long at the given byte offset of the file.
+     private static void writeLong(Path file, long offset, long value) throws IOException {
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+             channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value), offset);
+         }
+     }
+ 
+     private static void assertOpenFails(Path file, String reason) {
+         IOException error = assertThrows(IOException.class, () -> MappedStepLog.open(file).close());
+         assertTrue(error.getMessage().contains(reason), error.getMessage());
+     }
+ }
@@ -0,0 +1,108 @@
+/*
+ * SessionTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertThrows;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.io.IOException;
+ import java.nio.ByteBuffer;
+ import java.nio.ByteOrder;
+ import java.nio.channels.FileChannel;
+ import java.nio.file.Files;
+ import java.nio.file.Path;
+ import java.nio.file.StandardOpenOption;
+ import org.junit.jupiter.api.Test;
+ import org.junit.jupiter.api.io.TempDir;
+ 
+ /*
+  * SessionTest saves sessions and reads them back, and checks that read refuses files that aren't whole sessions.
+  */
+ class SessionTest {
+ 
+     @TempDir
+     Path directory;
+ 
+     @Test
+     void savedSessionReadsBackTheSame() throws IOException {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.GAUSSIAN, 10_000, 500, 99);
+         Session saved = new Session(values.clone(), ArrayGenerator.GAUSSIAN, 99, 500, "Merge Sort", SortElements.KEYED,
+                 75, 60, 20, 12_345);
+         Path file = directory.resolve("session.sort");
+         saved.write(file);
+ 
+         Session read = Session.read(file);
+         assertArrayEquals(values, read.getValues());
+         assertEquals(ArrayGenerator.GAUSSIAN, read.getDistribution());
+         assertEquals(99, read.getSeed());
+         assertEquals(500, read.getValueRange());
+         assertEquals("Merge Sort", read.getAlgorithm());
+         assertEquals(SortElements.KEYED, read.getElementType());
+         assertEquals(75, read.getSortingSpeed());
+         assertEquals(60, read.getFramesPerSecond());
+         assertEquals(20, read.getStepsPerFrame());
+         assertEquals(12_345, read.getStep());
+     }
+ 
+     @Test
+     void writeReplacesALongerFile() throws IOException {
+         Path file = directory.resolve("session.sort");
+         session(new int[1000]).write(file);
+         session(new int[] { 4, 2, 9 }).write(file);
+         assertArrayEquals(new int[] { 4, 2, 9 }, Session.read(file).getValues());
+     }
+ 
+     @Test
+     void rejectsAFileWithoutTheMagic() throws IOException {
+         Path file = directory.resolve("session.sort");
+         session(new int[] { 1, 2, 3 }).write(file);
+         writeInt(file, 0, 0);
+         assertReadFails(file, "Not a session file");
+     }
+ 
+     @Test
+     void rejectsAnUnknownVersion() throws IOException {
+         Path file = directory.resolve("session.sort");
+         session(new int[] { 1, 2, 3 }).write(file);
+         writeInt(file, 8, 99);
+         assertReadFails(file, "Unsupported session version");
+     }
+ 
+     @Test
+     void rejectsTruncatedValues() throws IOException {
+         Path file = directory.resolve("session.sort");
+         session(new int[] { 1, 2, 3 }).write(file);
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+             channel.truncate(channel.size() - 1);
+         }
+         assertReadFails(file, "truncated");
+     }
+ 
+     @Test
+     void rejectsAnEmptyFile() throws IOException {
+         Path file = Files.createFile(directory.resolve("empty.sort"));
+         assertReadFails(file, "truncated");
+     }
+ 
+     private static Session session(int[] values) {
+         return new Session(values, ArrayGenerator.UNIFORM, 1, 100, "Insertion Sort", SortElements.INT, 50, 60, 1, 0);
+     }
+ 
+     // Overwrites the little-endian int at the given byte offset of the file.
+     private static void writeInt(Path file, long offset, int value) throws IOException {
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+             channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value), offset);
+         }
+     }
+ 
+     private static void assertReadFails(Path file, String reason) {
+         IOException error = assertThrows(IOException.class, () -> Session.read(file));
+         assertTrue(error.getMessage().contains(reason), error.getMessage());
+     }
+ }
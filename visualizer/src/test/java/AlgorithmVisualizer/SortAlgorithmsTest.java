@@ -0,0 +1,65 @@
+/*
+ * SortAlgorithmsTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.util.Arrays;
+ import java.util.stream.Stream;
+ import org.junit.jupiter.params.ParameterizedTest;
+ import org.junit.jupiter.params.provider.Arguments;
+ import org.junit.jupiter.params.provider.MethodSource;
+ 
+ /*
+  * SortAlgorithmsTest records every algorithm on every distribution and replays the log through a StepPlayer, the
+  * way the panel does. A step the player applies differently from how the recorder took it leaves the array unsorted.
+  */
+ class SortAlgorithmsTest {
+ 
+     private static final int[] SIZES = { 1, 2, 300 };
+     private static final int VALUE_RANGE = 100;
+     private static final long SEED = 42;
+ 
+     // Every algorithm on every distribution, at each size.
+     static Stream<Arguments> runs() {
+         Stream.Builder<Arguments> runs = Stream.builder();
+         for (SortAlgorithm algorithm : SortAlgorithms.all()) {
+             for (String distribution : ArrayGenerator.names()) {
+                 for (int size : SIZES) {
+                     runs.add(Arguments.of(algorithm.getName(), distribution, size));
+                 }
+             }
+         }
+         return runs.build();
+     }
+ 
+     /*
+      * replayedLogSortsTheValues: The replayed array ends up sorted, the recorder's own copy of the values is the
+      * one that changed, and the player counts the same totals as the recorder.
+      */
+     @ParameterizedTest(name = "{0}, {1}, {2} values")
+     @MethodSource("runs")
+     void replayedLogSortsTheValues(String algorithm, String distribution, int size) {
+         int[] values = ArrayGenerator.generate(distribution, size, VALUE_RANGE, SEED);
+         StepLog log = new HeapStepLog();
+         SortCounters recorded = SortRecorder.record(SortAlgorithms.forName(algorithm), values, log);
+ 
+         StepPlayer player = new StepPlayer(values.clone());
+         for (long i = 0; i < log.size(); i++) {
+             player.apply(log.get(i));
+         }
+ 
+         int[] sorted = values.clone();
+         Arrays.sort(sorted);
+         assertTrue(log.isFinished());
+         assertArrayEquals(ArrayGenerator.generate(distribution, size, VALUE_RANGE, SEED), values);
+         assertArrayEquals(sorted, player.getArray());
+         assertEquals(recorded.toString(), player.getCounters().toString());
+     }
+ }
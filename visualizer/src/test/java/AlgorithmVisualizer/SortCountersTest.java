@@ -0,0 +1,104 @@
+/*
+ * SortCountersTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ 
+ import org.junit.jupiter.api.Test;
+ 
+ /*
+  * SortCountersTest checks the totals counted from the recorded steps against the raw kernels they stand for.
+  * The kernels don't count anything, so each test runs a copy of its kernel that counts as it goes, and checks
+  * that copy against the kernel itself.
+  */
+ class SortCountersTest {
+ 
+     private static final int SIZE = 500, VALUE_RANGE = 100;
+     private static final long SEED = 7;
+ 
+     @Test
+     void insertionSortCountsMatchTheRawKernel() {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.UNIFORM, SIZE, VALUE_RANGE, SEED);
+         SortCounters counters = SortRecorder.record(new InsertionSort(), values, new HeapStepLog());
+ 
+         int[] raw = values.clone(), counted = values.clone();
+         InsertionSort.sort(raw);
+         long[] expected = countInsertionSort(counted);
+         assertArrayEquals(raw, counted);
+ 
+         assertEquals(expected[0], counters.getComparisons());
+         assertEquals(expected[1], counters.getShifts());
+         assertEquals(expected[2], counters.getWrites());
+         assertEquals(0, counters.getSwaps());
+     }
+ 
+     @Test
+     void binaryInsertionSortCountsMatchTheRawKernel() {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.UNIFORM, SIZE, VALUE_RANGE, SEED);
+         SortCounters counters = SortRecorder.record(new BinaryInsertionSort(), values, new HeapStepLog());
+ 
+         int[] raw = values.clone(), counted = values.clone();
+         BinaryInsertionSort.sort(raw);
+         long[] expected = countBinaryInsertionSort(counted);
+         assertArrayEquals(raw, counted);
+ 
+         assertEquals(expected[0], counters.getComparisons());
+         assertEquals(expected[1], counters.getShifts());
+         assertEquals(expected[2], counters.getWrites());
+         assertEquals(0, counters.getSwaps());
+     }
+ 
+     /*
+      * countInsertionSort: InsertionSort.sort(int[]), returning its comparisons, shifts and writes (a shift copies
+      * one element up and the key down behind it, so it counts as two writes, like the SHIFT step).
+      */
+     private static long[] countInsertionSort(int[] array) {
+         long comparisons = 0, shifts = 0;
+         for (int i = 1; i < array.length; i++) {
+             int key = array[i];
+             int j = i - 1;
+             while (j >= 0) {
+                 comparisons++;
+                 if (array[j] <= key) break;
+                 array[j + 1] = array[j];
+                 shifts++;
+                 j = j - 1;
+             }
+             array[j + 1] = key;
+         }
+         return new long[] { comparisons, shifts, 2 * shifts };
+     }
+ 
+     /*
+      * countBinaryInsertionSort: BinaryInsertionSort.sort(int[]), returning its comparisons (one per probe),
+      * shifts (elements in each moved block) and writes (the block, plus the key written below it).
+      */
+     private static long[] countBinaryInsertionSort(int[] array) {
+         long comparisons = 0, shifts = 0, writes = 0;
+         for (int i = 1; i < array.length; i++) {
+             int key = array[i];
+             int low = 0, high = i;
+             while (low < high) {
+                 int mid = (low + high) >>> 1;
+                 comparisons++;
+                 if (array[mid] > key) {
+                     high = mid;
+                 } else {
+                     low = mid + 1;
+                 }
+             }
+             if (low < i) {
+                 System.arraycopy(array, low, array, low + 1, i - low);
+                 array[low] = key;
+                 shifts += i - low;
+                 writes += i - low + 1;
+             }
+         }
+         return new long[] { comparisons, shifts, writes };
+     }
+  }
@@ -0,0 +1,104 @@
+/*
+ * SortElementsTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.util.stream.Stream;
+ import org.junit.jupiter.api.Test;
+ import org.junit.jupiter.params.ParameterizedTest;
+ import org.junit.jupiter.params.provider.Arguments;
+ import org.junit.jupiter.params.provider.MethodSource;
+ import org.junit.jupiter.params.provider.ValueSource;
+ 
+ /*
+  * SortElementsTest sorts every element type with every algorithm, and checks that keyed records show which sorts
+  * are stable: few unique keys means many equal keys, so an unstable sort almost always reorders some of them.
+  */
+ class SortElementsTest {
+ 
+     private static final int SIZE = 400, VALUE_RANGE = 100;
+     private static final long SEED = 5;
+ 
+     // Every algorithm with every element type.
+     static Stream<Arguments> runs() {
+         Stream.Builder<Arguments> runs = Stream.builder();
+         for (SortAlgorithm algorithm : SortAlgorithms.all()) {
+             for (String type : SortElements.names()) {
+                 runs.add(Arguments.of(algorithm.getName(), type));
+             }
+         }
+         return runs.build();
+     }
+ 
+     @ParameterizedTest(name = "{0}, {1}")
+     @MethodSource("runs")
+     void everyTypeSortsByKey(String algorithm, String type) {
+         int[] values = ArrayGenerator.generate(ArrayGenerator.UNIFORM, SIZE, VALUE_RANGE, SEED);
+         SortElements elements = SortElements.of(type, values);
+         SortRecorder.record(SortAlgorithms.forName(algorithm), elements, new HeapStepLog());
+         for (int i = 1; i < elements.length(); i++) {
+             assertTrue(elements.compare(i - 1, i) <= 0, "out of order at " + i);
+         }
+     }
+ 
+     /*
+      * stableSortsKeepEqualKeysInOrder: Keyed records report no pairs out of order, on the elements and in the FINISH
+      * step the player reads it from.
+      */
+     @ParameterizedTest
+     @ValueSource(strings = { "Insertion Sort", "Binary Insertion Sort", "Merge Sort", "Tim Sort" })
+     void stableSortsKeepEqualKeysInOrder(String algorithm) {
+         SortElements elements = fewUniqueRecords();
+         StepLog log = new HeapStepLog();
+         SortRecorder.record(SortAlgorithms.forName(algorithm), elements, log);
+         assertEquals(0, elements.unstablePairs());
+         assertEquals(0, replay(log).getUnstablePairs());
+     }
+ 
+     @Test
+     void heapSortReordersEqualKeys() {
+         SortElements elements = fewUniqueRecords();
+         StepLog log = new HeapStepLog();
+         SortRecorder.record(new HeapSort(), elements, log);
+         assertTrue(elements.unstablePairs() > 0);
+         assertEquals(elements.unstablePairs(), replay(log).getUnstablePairs());
+     }
+ 
+     @Test
+     void plainValuesCantTellStability() {
+         SortElements elements = SortElements.of(SortElements.INT, new int[] { 2, 1, 2 });
+         SortRecorder.record(new InsertionSort(), elements, new HeapStepLog());
+         assertEquals(-1, elements.unstablePairs());
+     }
+ 
+     @Test
+     void rawKeyedKernelIsStable() {
+         int[] keys = ArrayGenerator.generate(ArrayGenerator.FEW_UNIQUE, SIZE, VALUE_RANGE, SEED);
+         int[] payloads = new int[SIZE];
+         for (int i = 0; i < SIZE; i++) payloads[i] = i;
+         InsertionSort.sort(keys, payloads);
+         for (int i = 1; i < SIZE; i++) {
+             assertTrue(keys[i - 1] < keys[i] || keys[i - 1] == keys[i] && payloads[i - 1] < payloads[i], "out of order at " + i);
+         }
+     }
+ 
+     // Keyed records with only a few different keys.
+     private static SortElements fewUniqueRecords() {
+         return SortElements.of(SortElements.KEYED, ArrayGenerator.generate(ArrayGenerator.FEW_UNIQUE, SIZE, VALUE_RANGE, SEED));
+     }
+ 
+     // Replays every step of a finished log.
+     private static StepPlayer replay(StepLog log) {
+         StepPlayer player = new StepPlayer(new int[SIZE]);
+         for (long i = 0; i < log.size(); i++) {
+             player.apply(log.get(i));
+         }
+         return player;
+     }
+ }
@@ -0,0 +1,56 @@
+/*
+ * StreamingTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.util.concurrent.Executors;
+ import java.util.concurrent.ScheduledExecutorService;
+ import org.junit.jupiter.api.AfterEach;
+ import org.junit.jupiter.api.BeforeAll;
+ import org.junit.jupiter.api.Test;
+ 
+ /*
+  * StreamingTest streams values into a panel at the fastest speed. The replay is nearly always caught up with the
+  * recording then, so it checks that the panel keeps publishing frames at about its frame rate while it waits for
+  * values, instead of blocking each tick until its whole budget of steps has arrived.
+  */
+ class StreamingTest {
+ 
+     private static final int FRAME_RATE = 60, STEPS_PER_FRAME = 1000, WINDOW = 1000;
+     private static final long RUN_MILLIS = 2000;
+ 
+     private final ScheduledExecutorService stepScheduler = Executors.newSingleThreadScheduledExecutor();
+     private InsertionSortVisualizer visualizer;
+ 
+     @BeforeAll
+     static void headless() {
+         System.setProperty("java.awt.headless", "true");
+     }
+ 
+     @AfterEach
+     void stop() {
+         visualizer.stopSort();
+         stepScheduler.shutdownNow();
+     }
+ 
+     @Test
+     void streamAtFullSpeedPublishesAtTheFrameRate() throws InterruptedException {
+         visualizer = new InsertionSortVisualizer(stepScheduler, TaskScope.workers(), false);
+         visualizer.setStream(ValueStream.generator(ArrayGenerator.UNIFORM, WINDOW, 100, 1, 200), WINDOW);
+         visualizer.setFramePacing(FRAME_RATE, STEPS_PER_FRAME);
+         visualizer.setSortingSpeed(100);
+         visualizer.startSort();
+         Thread.sleep(RUN_MILLIS);
+ 
+         // Still streaming (200 values a second fill the window in 5 s), and at least 3/4 of the frames were published.
+         assertEquals(SortState.RUNNING, visualizer.getState());
+         long frames = visualizer.getMetrics().getFramesPublished();
+         assertTrue(frames >= FRAME_RATE * RUN_MILLIS * 3 / 4000, frames + " frames in " + RUN_MILLIS + " ms");
+     }
+ }
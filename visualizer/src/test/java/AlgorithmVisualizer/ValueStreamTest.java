@@ -0,0 +1,81 @@
+/*
+ * ValueStreamTest.java
+ * Quinton Bock
+ * 10/17/2026
+ */
+
+ package AlgorithmVisualizer;
+ 
+ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertTrue;
+ 
+ import java.io.InputStream;
+ import org.junit.jupiter.api.Test;
+ 
+ /*
+  * ValueStreamTest streams from an input that can only be read once (like standard input): every stream of it
+  * gets the same values, and a fast input is only read a queue ahead of what the streams took.
+  */
+ class ValueStreamTest {
+ 
+     private static final int TAKEN = 100;
+ 
+     @Test
+     void endlessInputIsOnlyReadAheadOfTheStreams() throws Exception {
+         ValueStream.InputBuffer input = new ValueStream.InputBuffer(new Counting());
+         int[] first = take(input, TAKEN);
+         Thread.sleep(200); // Time for the reader to run ahead, if it could
+ 
+         assertKeptAtMost(input, TAKEN + 2 * ValueStream.QUEUE_CAPACITY);
+ 
+         // Streaming the same values again replays them without reading much further.
+         assertArrayEquals(first, take(input, TAKEN));
+         Thread.sleep(200);
+         assertKeptAtMost(input, TAKEN + 2 * ValueStream.QUEUE_CAPACITY);
+     }
+ 
+     @Test
+     void replayGoesOnWithTheInput() throws Exception {
+         ValueStream.InputBuffer input = new ValueStream.InputBuffer(new Counting());
+         take(input, TAKEN);
+         int[] longer = take(input, 5 * ValueStream.QUEUE_CAPACITY);
+         for (int i = 0; i < longer.length; i++) {
+             assertEquals(i, longer[i]);
+         }
+     }
+ 
+     private static void assertKeptAtMost(ValueStream.InputBuffer input, int most) {
+         int kept = input.size();
+         assertTrue(kept >= TAKEN && kept <= most, kept + " values kept");
+     }
+ 
+     // Streams the given number of values from the input in a new scope, then cancels the stream.
+     private static int[] take(ValueStream.InputBuffer input, int count) throws Exception {
+         TaskScope scope = new TaskScope();
+         ValueStream stream = ValueStream.start(input::feed, 16, scope);
+         int[] values = new int[count];
+         for (int i = 0; i < count; i++) {
+             values[i] = stream.take();
+         }
+         scope.cancel();
+         scope.join();
+         return values;
+     }
+ 
+     // Endless text input of the numbers 0, 1, 2, ... one per line.
+     private static final class Counting extends InputStream {
+         private int next;
+         private byte[] line = new byte[0];
+         private int position;
+ 
+         @Override
+         public int read() {
+             if (position == line.length) {
+                 line = (next++ + "\n").getBytes();
+                 position = 0;
+             }
+             return line[position++];
+         }
+     }
+ }